@@ -2,6 +2,7 @@ package com.top_serveurs.hytale.plugins.mcp;
 
 public final class McpContextKeys {
     public static final String AUTH_LEVEL = McpContextKeys.class.getName() + ".authLevel";
+    public static final String AUTH_TOKEN = McpContextKeys.class.getName() + ".authToken";
     public static final String HTTP_REQUEST = McpContextKeys.class.getName() + ".httpRequest";
 
     private McpContextKeys() {
@@ -1,17 +1,37 @@
 package com.top_serveurs.hytale.plugins.mcp;
 
+import com.hypixel.hytale.assetstore.event.LoadedAssetsEvent;
+import com.hypixel.hytale.assetstore.event.RemovedAssetsEvent;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import com.hypixel.hytale.server.core.event.events.player.PlayerConnectEvent;
+import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
 import com.hypixel.hytale.common.plugin.PluginIdentifier;
 import com.hypixel.hytale.server.core.plugin.PluginManager;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.events.RemoveWorldEvent;
 import com.hypixel.hytale.logger.HytaleLogger;
 import net.nitrado.hytale.plugins.webserver.WebServerPlugin;
 import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
+import com.top_serveurs.hytale.plugins.mcp.auth.RateLimiter;
+import com.top_serveurs.hytale.plugins.mcp.blocks.BlockCatalog;
+import com.top_serveurs.hytale.plugins.mcp.blocks.BlockCategorizer;
 import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
 import com.top_serveurs.hytale.plugins.mcp.features.*;
+import com.top_serveurs.hytale.plugins.mcp.logs.LogArchiveSearch;
+import com.top_serveurs.hytale.plugins.mcp.logs.LogFiles;
+import com.top_serveurs.hytale.plugins.mcp.logs.LogIndexer;
+import com.top_serveurs.hytale.plugins.mcp.logs.LogSubscriptions;
+import com.top_serveurs.hytale.plugins.mcp.players.PlayerIndex;
+import com.top_serveurs.hytale.plugins.mcp.players.PlayerTracker;
+import com.top_serveurs.hytale.plugins.mcp.world.BlockPalette;
+import com.top_serveurs.hytale.plugins.mcp.world.WorldWriteScheduler;
 
 import javax.annotation.Nonnull;
 import java.io.File;
+import java.util.Map;
+import java.util.Set;
 
 public class McpPlugin extends JavaPlugin {
 
@@ -23,6 +43,14 @@ public class McpPlugin extends JavaPlugin {
     private WebServerPlugin webServerPlugin;
     private McpAuthManager authManager;
     private FeatureRegistry featureRegistry;
+    private WorldWriteScheduler writeScheduler;
+    private BlockPalette blockPalette;
+    private BlockCatalog blockCatalog;
+    private LogIndexer logIndexer;
+    private LogSubscriptions logSubscriptions;
+    private LogArchiveSearch logArchiveSearch;
+    private PlayerIndex playerIndex;
+    private PlayerTracker playerTracker;
     private McpServlet mcpServlet;
 
     public McpPlugin(@Nonnull JavaPluginInit init) {
@@ -37,6 +65,7 @@ public class McpPlugin extends JavaPlugin {
         loadConfiguration();
         initializeWebServer();
         registerFeatures();
+        registerEvents();
         registerEndpoints();
 
         logger.atInfo().log("MCP plugin initialized successfully");
@@ -48,6 +77,21 @@ public class McpPlugin extends JavaPlugin {
         if (mcpServlet != null) {
             mcpServlet.shutdown();
         }
+        if (writeScheduler != null) {
+            writeScheduler.shutdown();
+        }
+        if (logIndexer != null) {
+            logIndexer.shutdown();
+        }
+        if (logSubscriptions != null) {
+            logSubscriptions.clear();
+        }
+        if (logArchiveSearch != null) {
+            logArchiveSearch.shutdown();
+        }
+        if (playerTracker != null) {
+            playerTracker.shutdown();
+        }
         if (webServerPlugin != null) {
             try {
                 webServerPlugin.removeServlet(this, "/mcp");
@@ -76,26 +120,67 @@ public class McpPlugin extends JavaPlugin {
     }
 
     private void registerFeatures() {
-        featureRegistry = new FeatureRegistry(logger);
-
-        featureRegistry.registerFeature(new ListPlayersFeature(logger));
-        featureRegistry.registerFeature(new GetPlayerPositionFeature(logger));
-        featureRegistry.registerFeature(new ListBlocksFeature(logger));
+        featureRegistry = new FeatureRegistry(logger, new RateLimiter(config.getFeatures().getRateLimits()));
+        writeScheduler = new WorldWriteScheduler(logger, config);
+        blockPalette = new BlockPalette();
+        blockCatalog = new BlockCatalog(logger, new BlockCategorizer(config.getFeatures().getBlockCategories()));
+        blockCatalog.buildInBackground();
+        logIndexer = new LogIndexer(logger, () -> LogFiles.find(null));
+        logSubscriptions = new LogSubscriptions(logger);
+        logIndexer.addListener(logSubscriptions::publish);
+        logIndexer.start();
+        logArchiveSearch = new LogArchiveSearch();
+        playerIndex = new PlayerIndex();
+        Universe universe = Universe.get();
+        if (universe != null) {
+            playerIndex.seed(universe.getPlayers());
+        }
+        playerTracker = new PlayerTracker(logger, playerIndex, config.getFeatures().getPlayerTracking());
+        playerTracker.start();
+
+        featureRegistry.registerFeature(new ListPlayersFeature(logger, playerIndex));
+        featureRegistry.registerFeature(new GetPlayerPositionFeature(logger, playerIndex));
+        featureRegistry.registerFeature(new GetPlayerPositionsFeature(logger, playerIndex));
+        featureRegistry.registerFeature(new FindPlayersNearFeature(logger, playerTracker));
+        featureRegistry.registerFeature(new GetPlayerTrailFeature(logger, playerIndex, playerTracker));
+        featureRegistry.registerFeature(new ListBlocksFeature(logger, blockCatalog));
         featureRegistry.registerFeature(new ExecuteCommandFeature(logger, config));
-        featureRegistry.registerFeature(new GiveItemFeature(logger, config));
+        featureRegistry.registerFeature(new GiveItemFeature(logger, config, playerIndex));
         featureRegistry.registerFeature(new BroadcastMessageFeature(logger, config));
-        featureRegistry.registerFeature(new SetBlockFeature(logger));
-        featureRegistry.registerFeature(new SetBlocksBatchFeature(logger, config));
-        featureRegistry.registerFeature(new FlattenTerrainFeature(logger, config));
+        featureRegistry.registerFeature(new SetBlockFeature(logger, blockPalette));
+        featureRegistry.registerFeature(new SetBlocksBatchFeature(logger, config, writeScheduler, blockPalette));
+        featureRegistry.registerFeature(new FlattenTerrainFeature(logger, config, writeScheduler));
         featureRegistry.registerFeature(new GetBuildingGuideFeature(logger, config));
         featureRegistry.registerFeature(new GetWorldInfoFeature(logger));
         featureRegistry.registerFeature(new GetServerInfoFeature(logger, config, getIdentifier()));
         featureRegistry.registerFeature(new SendChatMessageFeature(logger));
-        featureRegistry.registerFeature(new GetLogsFeature(logger));
+        featureRegistry.registerFeature(new GetLogsFeature(logger, logIndexer, logArchiveSearch));
+        featureRegistry.registerFeature(new SubscribeLogsFeature(logger, logSubscriptions));
+        featureRegistry.registerFeature(new UnsubscribeLogsFeature(logger, logSubscriptions));
 
         logger.atInfo().log("Registered " + featureRegistry.toString() + " features");
     }
 
+    private void registerEvents() {
+        getEventRegistry().register(LoadedAssetsEvent.class, BlockType.class, this::onBlockTypesLoaded);
+        getEventRegistry().register(RemovedAssetsEvent.class, BlockType.class, this::onBlockTypesRemoved);
+        getEventRegistry().registerGlobal(PlayerConnectEvent.class, event -> playerIndex.add(event.getPlayerRef()));
+        getEventRegistry().registerGlobal(PlayerDisconnectEvent.class, event -> playerIndex.remove(event.getPlayerRef()));
+        getEventRegistry().registerGlobal(RemoveWorldEvent.class, event -> writeScheduler.removeWorld(event.getWorld()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onBlockTypesLoaded(LoadedAssetsEvent event) {
+        blockPalette.invalidate();
+        blockCatalog.onLoaded((Map<String, BlockType>) event.getLoadedAssets());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onBlockTypesRemoved(RemovedAssetsEvent event) {
+        blockPalette.invalidate();
+        blockCatalog.onRemoved((Set<String>) event.getRemovedAssets());
+    }
+
     private void registerEndpoints() {
         if (webServerPlugin == null) {
             return;
@@ -2,6 +2,7 @@ package com.top_serveurs.hytale.plugins.mcp;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hypixel.hytale.logger.HytaleLogger;
+import com.top_serveurs.hytale.plugins.mcp.auth.ClientAddress;
 import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
 import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
 import com.top_serveurs.hytale.plugins.mcp.features.FeatureRegistry;
@@ -50,19 +51,26 @@ public class McpServlet extends HttpServlet {
     protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException, ServletException {
         ensureInitialized();
 
+        String clientIp = getClientIp(req);
+        long bannedFor = authManager.getThrottle().banRemaining(clientIp);
+        if (bannedFor > 0) {
+            sendTooManyRequests(resp, bannedFor);
+            return;
+        }
+
         McpAuthManager.AuthLevel authLevel = authManager.authenticate(req);
         if (authLevel == McpAuthManager.AuthLevel.NONE) {
-            String clientIp = getClientIp(req);
-            logger.atWarning().log("Unauthorized connection attempt from " + clientIp);
+            authManager.getThrottle().recordFailure(clientIp);
             sendUnauthorized(resp);
             return;
         }
+        authManager.getThrottle().recordSuccess(clientIp);
 
-        prepareMcpContext(req, authLevel);
+        prepareMcpContext(req, authLevel, clientIp);
 
         String requestPath = getRequestPath(req);
         if (requestPath.endsWith(MCP_ENDPOINT)) {
-            handleStreamable(req, resp);
+            handleStreamable(req, resp, authLevel);
             return;
         }
 
@@ -76,6 +84,7 @@ public class McpServlet extends HttpServlet {
 
         McpSchema.ServerCapabilities capabilities = McpSchema.ServerCapabilities.builder()
             .tools(true)
+            .logging()
             .build();
 
         var tools = featureRegistry.getToolSpecifications(objectMapper, config);
@@ -87,7 +96,7 @@ public class McpServlet extends HttpServlet {
             .contextExtractor(createContextExtractor())
             .build();
 
-        io.modelcontextprotocol.server.McpServer.sync(streamableProvider)
+        io.modelcontextprotocol.server.McpServer.async(streamableProvider)
             .jsonMapper(jsonMapper)
             .jsonSchemaValidator(new DefaultJsonSchemaValidator(objectMapper))
             .capabilities(capabilities)
@@ -98,7 +107,7 @@ public class McpServlet extends HttpServlet {
         logger.atInfo().log("MCP server initialized and ready to accept connections");
     }
 
-    private void handleStreamable(HttpServletRequest req, HttpServletResponse resp) throws IOException, ServletException {
+    private void handleStreamable(HttpServletRequest req, HttpServletResponse resp, McpAuthManager.AuthLevel authLevel) throws IOException, ServletException {
         if (meansMethod(req, "GET") || meansMethod(req, "POST")) {
             if (isBrowserRequest(req)) {
                 resp.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -117,11 +126,12 @@ public class McpServlet extends HttpServlet {
 
                 if (isSseConnection) {
                     String clientIp = getClientIp(req);
-                    McpAuthManager.AuthLevel authLevel = authManager.authenticate(req);
                     logger.atInfo().log("New SSE connection from " + clientIp + " (auth: " + authLevel + ")");
                 }
             }
 
+            streamableProvider.service(req, resp);
+        } else if (meansMethod(req, "DELETE")) {
             streamableProvider.service(req, resp);
         } else {
             resp.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
@@ -140,9 +150,16 @@ public class McpServlet extends HttpServlet {
         return request -> (McpTransportContext) request.getAttribute(MCP_CONTEXT_KEY);
     }
 
-    private void prepareMcpContext(HttpServletRequest request, McpAuthManager.AuthLevel authLevel) {
+    private void prepareMcpContext(HttpServletRequest request, McpAuthManager.AuthLevel authLevel, String clientIp) {
         Map<String, Object> contextMap = new HashMap<>();
         contextMap.put(McpContextKeys.AUTH_LEVEL, authLevel);
+        Object tokenKey = request.getAttribute(McpAuthManager.TOKEN_KEY_ATTRIBUTE);
+        if (tokenKey != null) {
+            contextMap.put(McpContextKeys.AUTH_TOKEN, tokenKey);
+        } else if (clientIp != null) {
+            // Without auth there is no token, so quotas apply per client address instead of to everyone at once
+            contextMap.put(McpContextKeys.AUTH_TOKEN, "address:" + clientIp);
+        }
         contextMap.put(McpContextKeys.HTTP_REQUEST, request);
         request.setAttribute(MCP_CONTEXT_KEY, McpTransportContext.create(contextMap));
     }
@@ -161,17 +178,12 @@ public class McpServlet extends HttpServlet {
     }
 
     private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-
-        return request.getRemoteAddr();
+        return ClientAddress.resolve(
+            request.getRemoteAddr(),
+            request.getHeader("X-Forwarded-For"),
+            request.getHeader("X-Real-IP"),
+            config.getAuth().getTrustedProxies()
+        );
     }
 
     private void sendUnauthorized(HttpServletResponse resp) throws IOException {
@@ -182,6 +194,15 @@ public class McpServlet extends HttpServlet {
         resp.getWriter().flush();
     }
 
+    private void sendTooManyRequests(HttpServletResponse resp, long retryAfterMillis) throws IOException {
+        resp.setStatus(429);
+        resp.setHeader("Retry-After", String.valueOf((retryAfterMillis + 999) / 1000));
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+        resp.getWriter().write("{\"error\":\"Too many failed authentication attempts\"}");
+        resp.getWriter().flush();
+    }
+
     @Override
     protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
     }
@@ -0,0 +1,152 @@
+package com.top_serveurs.hytale.plugins.mcp.auth;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks failed authentications per client address. After a number of failures in a row an address
+ * is banned, and every further failure doubles the ban up to a maximum. Failures are not logged one
+ * by one but summarised at most once per report interval.
+ */
+public class AuthThrottle {
+    static final int MAX_TRACKED_ADDRESSES = 10_000;
+    // Failures older than this no longer count towards a ban
+    private static final long FAILURE_WINDOW_MS = 15 * 60 * 1000L;
+    private static final long REPORT_INTERVAL_MS = 60 * 1000L;
+    private static final long SWEEP_INTERVAL_MS = 1000L;
+
+    private final HytaleLogger logger;
+    private final int failuresBeforeBan;
+    private final long banMillis;
+    private final long maxBanMillis;
+    private final LongSupplier clock;
+    private final Map<String, Failures> addresses = new ConcurrentHashMap<>();
+
+    private final AtomicLong lastReport;
+    private final AtomicLong failedSinceReport = new AtomicLong();
+    private final AtomicLong rejectedSinceReport = new AtomicLong();
+    private final AtomicLong bansSinceReport = new AtomicLong();
+    private final AtomicLong untrackedSinceReport = new AtomicLong();
+    private final AtomicLong lastSweep;
+
+    public AuthThrottle(HytaleLogger logger, McpConfig.AuthConfig config) {
+        this(logger, config, System::currentTimeMillis);
+    }
+
+    AuthThrottle(HytaleLogger logger, McpConfig.AuthConfig config, LongSupplier clock) {
+        this.logger = logger;
+        this.failuresBeforeBan = Math.max(1, config.getFailuresBeforeBan());
+        this.banMillis = Math.max(1, config.getBanSeconds()) * 1000L;
+        this.maxBanMillis = Math.max(banMillis, config.getMaxBanSeconds() * 1000L);
+        this.clock = clock;
+        this.lastReport = new AtomicLong(clock.getAsLong());
+        this.lastSweep = new AtomicLong(clock.getAsLong() - SWEEP_INTERVAL_MS);
+    }
+
+    /**
+     * Milliseconds left on the ban of an address, or 0 when it may try to authenticate.
+     */
+    public long banRemaining(String address) {
+        Failures failures = addresses.get(address);
+        if (failures == null) {
+            return 0;
+        }
+        long now = clock.getAsLong();
+        long remaining;
+        synchronized (failures) {
+            remaining = failures.bannedUntil - now;
+        }
+        if (remaining > 0) {
+            rejectedSinceReport.incrementAndGet();
+            report(now);
+            return remaining;
+        }
+        return 0;
+    }
+
+    public void recordFailure(String address) {
+        long now = clock.getAsLong();
+        failedSinceReport.incrementAndGet();
+
+        Failures failures = addresses.get(address);
+        if (failures == null) {
+            if (addresses.size() >= MAX_TRACKED_ADDRESSES && !evict(now)) {
+                // Full of banned addresses: keep their bans rather than make room for a newcomer
+                untrackedSinceReport.incrementAndGet();
+                report(now);
+                return;
+            }
+            failures = addresses.computeIfAbsent(address, key -> new Failures());
+        }
+
+        synchronized (failures) {
+            if (now - failures.lastFailure > FAILURE_WINDOW_MS) {
+                failures.count = 0;
+            }
+            failures.count++;
+            failures.lastFailure = now;
+            int over = failures.count - failuresBeforeBan;
+            if (over >= 0) {
+                long ban = over >= 30 ? maxBanMillis : Math.min(maxBanMillis, banMillis << over);
+                failures.bannedUntil = now + ban;
+                bansSinceReport.incrementAndGet();
+            }
+        }
+        report(now);
+    }
+
+    public void recordSuccess(String address) {
+        if (!addresses.isEmpty()) {
+            addresses.remove(address);
+        }
+    }
+
+    public int getTrackedAddresses() {
+        return addresses.size();
+    }
+
+    /**
+     * Forgets addresses that are not banned, at most once per sweep interval so a flood of new
+     * addresses does not rescan the whole map on every failure. Returns whether there is room for
+     * another address.
+     */
+    private boolean evict(long now) {
+        long last = lastSweep.get();
+        if (now - last >= SWEEP_INTERVAL_MS && lastSweep.compareAndSet(last, now)) {
+            addresses.values().removeIf(failures -> {
+                synchronized (failures) {
+                    return failures.bannedUntil <= now;
+                }
+            });
+        }
+        return addresses.size() < MAX_TRACKED_ADDRESSES;
+    }
+
+    private void report(long now) {
+        long last = lastReport.get();
+        if (now - last < REPORT_INTERVAL_MS || !lastReport.compareAndSet(last, now)) {
+            return;
+        }
+        long failed = failedSinceReport.getAndSet(0);
+        long rejected = rejectedSinceReport.getAndSet(0);
+        long bans = bansSinceReport.getAndSet(0);
+        long untracked = untrackedSinceReport.getAndSet(0);
+        if (failed == 0 && rejected == 0) {
+            return;
+        }
+        logger.atWarning().log("Authentication failures in the last " + ((now - last) / 1000) + "s: "
+            + failed + " failed, " + rejected + " rejected while banned, " + bans + " bans issued, "
+            + addresses.size() + " addresses tracked" + (untracked > 0 ? ", " + untracked + " not tracked because the table was full" : ""));
+    }
+
+    private static final class Failures {
+        private int count;
+        private long lastFailure;
+        private long bannedUntil;
+    }
+}
@@ -0,0 +1,35 @@
+package com.top_serveurs.hytale.plugins.mcp.auth;
+
+import java.util.Set;
+
+/**
+ * Works out which address a request comes from. Forwarding headers are set by the client and can
+ * say anything, so they are only read when the connection itself comes from a trusted proxy.
+ */
+public final class ClientAddress {
+
+    private ClientAddress() {
+    }
+
+    public static String resolve(String remoteAddr, String forwardedFor, String realIp, Set<String> trustedProxies) {
+        if (remoteAddr == null || trustedProxies == null || !trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            // Each proxy appends the peer it saw, so walk back from the right past our own proxies
+            String[] hops = forwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                    return hop;
+                }
+            }
+        }
+
+        if (realIp != null && !realIp.isBlank()) {
+            return realIp.trim();
+        }
+        return remoteAddr;
+    }
+}
@@ -4,13 +4,33 @@ import com.hypixel.hytale.logger.HytaleLogger;
 import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Resolves the access level of a request from its bearer token. Configured tokens are only kept as
+ * SHA-256 hashes, and the hash of the presented token is compared with every one of them in constant
+ * time.
+ */
 public class McpAuthManager {
+    // Request attribute holding a short identifier of the accepted token, derived from its hash
+    public static final String TOKEN_KEY_ATTRIBUTE = McpAuthManager.class.getName() + ".tokenKey";
+
     private final McpConfig config;
-    private final HytaleLogger logger;
+    private final List<byte[]> adminTokenHashes;
+    private final List<byte[]> playerTokenHashes;
+    private final AuthThrottle throttle;
 
     public McpAuthManager(McpConfig config, HytaleLogger logger) {
         this.config = config;
-        this.logger = logger;
+        this.throttle = new AuthThrottle(logger, config.getAuth());
+        this.adminTokenHashes = hashAll(config.getAuth().getAdminTokens());
+        this.playerTokenHashes = hashAll(config.getAuth().getPlayerTokens());
     }
 
     public enum AuthLevel {
@@ -26,22 +46,63 @@ public class McpAuthManager {
 
         String authToken = extractToken(request);
         if (authToken == null || authToken.isEmpty()) {
-            logger.atWarning().log("Authentication failed: No token provided");
             return AuthLevel.NONE;
         }
 
-        if (config.getAuth().getAdminTokens().contains(authToken)) {
-            return AuthLevel.ADMIN;
+        byte[] tokenHash = hash(authToken);
+        AuthLevel level = resolve(tokenHash);
+        if (level != AuthLevel.NONE) {
+            request.setAttribute(TOKEN_KEY_ATTRIBUTE, HexFormat.of().formatHex(tokenHash, 0, 8));
         }
+        return level;
+    }
 
-        if (config.getAuth().getPlayerTokens().contains(authToken)) {
+    /**
+     * Failed attempts are counted per client address by the throttle rather than logged here.
+     */
+    public AuthThrottle getThrottle() {
+        return throttle;
+    }
+
+    private AuthLevel resolve(byte[] tokenHash) {
+        // Every configured hash is compared so the time taken does not depend on which one matches
+        boolean admin = matchesAny(tokenHash, adminTokenHashes);
+        boolean player = matchesAny(tokenHash, playerTokenHashes);
+        if (admin) {
+            return AuthLevel.ADMIN;
+        }
+        if (player) {
             return AuthLevel.PLAYER;
         }
-
-        logger.atWarning().log("Authentication failed: Invalid token");
         return AuthLevel.NONE;
     }
 
+    private static boolean matchesAny(byte[] tokenHash, List<byte[]> hashes) {
+        boolean match = false;
+        for (byte[] candidate : hashes) {
+            match |= MessageDigest.isEqual(tokenHash, candidate);
+        }
+        return match;
+    }
+
+    private static List<byte[]> hashAll(Collection<String> tokens) {
+        List<byte[]> hashes = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            if (token != null && !token.isEmpty()) {
+                hashes.add(hash(token));
+            }
+        }
+        return hashes;
+    }
+
+    static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     private String extractToken(HttpServletRequest request) {
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
@@ -0,0 +1,125 @@
+package com.top_serveurs.hytale.plugins.mcp.auth;
+
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits tool calls per auth token. Each (token, tool) pair has a token bucket, kept as the single
+ * time at which the bucket would be full again and advanced with compare-and-set, so concurrent
+ * callers never take a lock. Each token also has a cap on calls in flight across all tools.
+ * Tokens can be client addresses when auth is disabled, so neither map may grow without bound:
+ * buckets that have refilled are swept once the map is full, and in-flight counters are removed
+ * when they drop back to zero.
+ */
+public class RateLimiter {
+    static final int MAX_TRACKED_BUCKETS = 10_000;
+    // A full map is swept at most this often, so a flood of new keys does not rescan it on every call
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final McpConfig.RateLimitConfig config;
+    private final LongSupplier nanoClock;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Integer> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep;
+
+    public RateLimiter(McpConfig.RateLimitConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    RateLimiter(McpConfig.RateLimitConfig config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.lastSweep = new AtomicLong(nanoClock.getAsLong() - SWEEP_INTERVAL_NANOS);
+    }
+
+    /**
+     * Takes one call from the bucket of a token and tool. Returns 0 when the call may proceed,
+     * otherwise the number of milliseconds until it would be allowed.
+     */
+    public long tryConsume(String token, String toolName) {
+        if (!config.isEnabled()) {
+            return 0;
+        }
+        McpConfig.ToolRateLimit limit = config.forTool(toolName);
+        if (limit == null || limit.getCallsPerMinute() <= 0) {
+            return 0;
+        }
+
+        long interval = TimeUnit.MINUTES.toNanos(1) / limit.getCallsPerMinute();
+        long tolerance = interval * Math.max(0, limit.getBurst() - 1);
+        String key = token + '\u0000' + toolName;
+        AtomicLong fullAt = buckets.get(key);
+        if (fullAt == null) {
+            if (buckets.size() >= MAX_TRACKED_BUCKETS && !sweep()) {
+                // Every tracked bucket is still in use; new keys wait rather than go unlimited
+                return TimeUnit.NANOSECONDS.toMillis(SWEEP_INTERVAL_NANOS);
+            }
+            fullAt = buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        }
+
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = fullAt.get();
+            long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long debt = base - now;
+            if (debt > tolerance) {
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(debt - tolerance));
+            }
+            if (fullAt.compareAndSet(current, base + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Registers a call in flight for a token, or returns false when the token already has the
+     * maximum number running. Every successful call must be paired with {@link #exit(String)}.
+     */
+    public boolean tryEnter(String token) {
+        int max = config.getMaxConcurrentCalls();
+        if (!config.isEnabled() || max <= 0) {
+            return true;
+        }
+        boolean[] entered = new boolean[1];
+        inFlight.compute(token, (key, running) -> {
+            int current = running == null ? 0 : running;
+            if (current >= max) {
+                return running;
+            }
+            entered[0] = true;
+            return current + 1;
+        });
+        return entered[0];
+    }
+
+    public void exit(String token) {
+        // The counter goes away with the last call in flight instead of lingering per token
+        inFlight.computeIfPresent(token, (key, running) -> running <= 1 ? null : running - 1);
+    }
+
+    int getTrackedKeys() {
+        return buckets.size() + inFlight.size();
+    }
+
+    /**
+     * Drops buckets that have refilled, which behave exactly like absent ones. Returns whether there
+     * is room for a new bucket afterwards.
+     */
+    private boolean sweep() {
+        long now = nanoClock.getAsLong();
+        long last = lastSweep.get();
+        if (now - last >= SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(last, now)) {
+            buckets.values().removeIf(fullAt -> fullAt.get() - now <= 0);
+        }
+        return buckets.size() < MAX_TRACKED_BUCKETS;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return config.getMaxConcurrentCalls();
+    }
+}
@@ -0,0 +1,100 @@
+package com.top_serveurs.hytale.plugins.mcp.blocks;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Categorised view of the block type asset map, published as an immutable {@link BlockIndex}.
+ * The catalog is built once from the asset map, normally on a background thread at startup, and then
+ * kept current from asset load and removal events so only the changed blocks are categorised again.
+ */
+public class BlockCatalog {
+    private final HytaleLogger logger;
+    private final BlockCategorizer categorizer;
+    private final Object lock = new Object();
+    private final Map<String, CategorizedBlock> blocks = new HashMap<>();
+    private volatile BlockIndex index = null;
+
+    public BlockCatalog(HytaleLogger logger, BlockCategorizer categorizer) {
+        this.logger = logger;
+        this.categorizer = categorizer;
+    }
+
+    public BlockCategorizer getCategorizer() {
+        return categorizer;
+    }
+
+    public void buildInBackground() {
+        Thread thread = new Thread(() -> {
+            try {
+                getIndex();
+            } catch (Exception e) {
+                // The first list_blocks call retries the build
+                logger.atWarning().withCause(e).log("[LIST_BLOCKS] Background cache build failed");
+            }
+        }, "MCP-BlockCatalog");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns the current index, building it on the calling thread if the background build has not
+     * finished yet.
+     */
+    public BlockIndex getIndex() {
+        BlockIndex current = index;
+        if (current != null) {
+            return current;
+        }
+        synchronized (lock) {
+            if (index == null) {
+                logger.atInfo().log("[LIST_BLOCKS] Initializing blocks cache...");
+                long startTime = System.currentTimeMillis();
+                for (Map.Entry<String, BlockType> entry : BlockType.getAssetMap().getAssetMap().entrySet()) {
+                    put(entry.getKey(), entry.getValue());
+                }
+                index = new BlockIndex(blocks.values());
+                long duration = System.currentTimeMillis() - startTime;
+                logger.atInfo().log("[LIST_BLOCKS] Cache initialized with " + blocks.size() + " blocks in " + duration + "ms");
+            }
+            return index;
+        }
+    }
+
+    public void onLoaded(Map<String, BlockType> loaded) {
+        synchronized (lock) {
+            // Nothing to patch yet, the initial build reads the asset map as it is then
+            if (index == null) {
+                return;
+            }
+            for (Map.Entry<String, BlockType> entry : loaded.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+            index = new BlockIndex(blocks.values());
+        }
+    }
+
+    public void onRemoved(Collection<String> removed) {
+        synchronized (lock) {
+            if (index == null) {
+                return;
+            }
+            for (String name : removed) {
+                blocks.remove(name);
+            }
+            index = new BlockIndex(blocks.values());
+        }
+    }
+
+    private void put(String name, BlockType blockType) {
+        if (blockType == null || blockType == BlockType.EMPTY || name == null || name.isEmpty()) {
+            return;
+        }
+        int id = BlockType.getAssetMap().getIndex(name);
+        blocks.put(name, new CategorizedBlock(name, id, categorizer.categorize(name.toLowerCase())));
+    }
+}
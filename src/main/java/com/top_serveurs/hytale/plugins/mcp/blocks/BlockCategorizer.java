@@ -0,0 +1,58 @@
+package com.top_serveurs.hytale.plugins.mcp.blocks;
+
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig.BlockCategoryRule;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Assigns each block name the category of the first rule with a keyword contained in the lowercased
+ * name, or {@link #MISC} when no rule matches. Rules are compiled into one {@link KeywordMatcher}
+ * so a name is scanned once whatever the size of the rule table.
+ */
+public class BlockCategorizer {
+    public static final String MISC = "misc";
+
+    private final List<String> ruleCategories;
+    private final Set<String> categories;
+    private final KeywordMatcher matcher;
+
+    public BlockCategorizer(List<BlockCategoryRule> rules) {
+        List<List<String>> keywords = new ArrayList<>(rules.size());
+        ruleCategories = new ArrayList<>(rules.size());
+        categories = new LinkedHashSet<>();
+
+        for (BlockCategoryRule rule : rules) {
+            if (rule == null || rule.getCategory() == null || rule.getKeywords() == null) {
+                continue;
+            }
+            String category = rule.getCategory().toLowerCase();
+            ruleCategories.add(category);
+            categories.add(category);
+
+            List<String> ruleKeywords = new ArrayList<>();
+            for (String keyword : rule.getKeywords()) {
+                if (keyword != null) {
+                    ruleKeywords.add(keyword.toLowerCase());
+                }
+            }
+            keywords.add(ruleKeywords);
+        }
+        categories.add(MISC);
+        matcher = new KeywordMatcher(keywords);
+    }
+
+    public String categorize(String lowerName) {
+        int rule = matcher.firstGroup(lowerName);
+        return rule >= 0 ? ruleCategories.get(rule) : MISC;
+    }
+
+    /**
+     * All categories in rule order, followed by misc.
+     */
+    public Set<String> getCategories() {
+        return categories;
+    }
+}
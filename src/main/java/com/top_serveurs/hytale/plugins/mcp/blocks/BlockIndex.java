@@ -0,0 +1,181 @@
+package com.top_serveurs.hytale.plugins.mcp.blocks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable search index over the block catalog. Blocks are kept sorted by name and every lookup
+ * returns ascending positions into that order, so results never need sorting. Substring search
+ * intersects trigram posting lists and only verifies the surviving candidates; terms shorter than a
+ * trigram fall back to a scan of the pre-lowercased names.
+ */
+public class BlockIndex {
+    private static final int GRAM = 3;
+    private static final int[] NONE = new int[0];
+
+    private final CategorizedBlock[] blocks;
+    private final Map<String, int[]> byCategory;
+    private final Map<String, int[]> byTrigram;
+    private final Map<String, Integer> categoryStats;
+
+    public BlockIndex(Collection<CategorizedBlock> source) {
+        this.blocks = source.toArray(new CategorizedBlock[0]);
+        Arrays.sort(blocks, Comparator.comparing(CategorizedBlock::getName));
+
+        Map<String, List<Integer>> categories = new HashMap<>();
+        Map<String, List<Integer>> trigrams = new HashMap<>();
+        for (int position = 0; position < blocks.length; position++) {
+            CategorizedBlock block = blocks[position];
+            categories.computeIfAbsent(block.getCategory(), key -> new ArrayList<>()).add(position);
+
+            String lowerName = block.getLowerName();
+            for (int start = 0; start + GRAM <= lowerName.length(); start++) {
+                List<Integer> postings = trigrams.computeIfAbsent(lowerName.substring(start, start + GRAM), key -> new ArrayList<>());
+                // A name repeating a trigram would otherwise add its position twice
+                if (postings.isEmpty() || postings.get(postings.size() - 1) != position) {
+                    postings.add(position);
+                }
+            }
+        }
+
+        this.byCategory = toArrays(categories);
+        this.byTrigram = toArrays(trigrams);
+
+        Map<String, Integer> stats = new TreeMap<>();
+        byCategory.forEach((category, positions) -> stats.put(category, positions.length));
+        this.categoryStats = Collections.unmodifiableMap(stats);
+    }
+
+    public int size() {
+        return blocks.length;
+    }
+
+    public CategorizedBlock get(int position) {
+        return blocks[position];
+    }
+
+    /**
+     * Returns the position of the first block whose name sorts after the given name. The name does not
+     * need to be in the index, so positions stay meaningful across rebuilds.
+     */
+    public int positionAfter(String name) {
+        int low = 0;
+        int high = blocks.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (blocks[mid].getName().compareTo(name) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Number of blocks per category, sorted by category name.
+     */
+    public Map<String, Integer> getCategoryStats() {
+        return categoryStats;
+    }
+
+    /**
+     * Returns the ascending positions of blocks whose name contains the search term (case-insensitive)
+     * and that belong to the category. Either filter may be null or empty to match everything.
+     */
+    public int[] search(String search, String category) {
+        boolean hasSearch = search != null && !search.isEmpty();
+        boolean hasCategory = category != null && !category.isEmpty();
+
+        int[] candidates;
+        if (hasCategory) {
+            candidates = byCategory.getOrDefault(category.toLowerCase(), NONE);
+        } else if (!hasSearch) {
+            return allPositions();
+        } else {
+            candidates = null;
+        }
+
+        if (!hasSearch) {
+            return candidates;
+        }
+
+        String term = search.toLowerCase();
+        if (term.length() >= GRAM) {
+            int[] postings = trigramCandidates(term);
+            candidates = candidates == null ? postings : intersect(candidates, postings);
+        } else if (candidates == null) {
+            candidates = allPositions();
+        }
+
+        int[] matches = new int[candidates.length];
+        int count = 0;
+        for (int position : candidates) {
+            if (blocks[position].getLowerName().contains(term)) {
+                matches[count++] = position;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private int[] trigramCandidates(String term) {
+        int[][] lists = new int[term.length() - GRAM + 1][];
+        for (int start = 0; start < lists.length; start++) {
+            int[] postings = byTrigram.get(term.substring(start, start + GRAM));
+            if (postings == null) {
+                return NONE;
+            }
+            lists[start] = postings;
+        }
+
+        // Smallest lists first keeps every intersection as short as possible
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private int[] allPositions() {
+        int[] positions = new int[blocks.length];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        return positions;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static Map<String, int[]> toArrays(Map<String, List<Integer>> lists) {
+        Map<String, int[]> arrays = new HashMap<>(lists.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : lists.entrySet()) {
+            arrays.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        return arrays;
+    }
+}
@@ -0,0 +1,31 @@
+package com.top_serveurs.hytale.plugins.mcp.blocks;
+
+public class CategorizedBlock {
+    private final String name;
+    private final String lowerName;
+    private final int id;
+    private final String category;
+
+    public CategorizedBlock(String name, int id, String category) {
+        this.name = name;
+        this.lowerName = name.toLowerCase();
+        this.id = id;
+        this.category = category;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLowerName() {
+        return lowerName;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+}
@@ -0,0 +1,95 @@
+package com.top_serveurs.hytale.plugins.mcp.blocks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Aho–Corasick automaton over groups of keywords. A single pass over the text finds the lowest group
+ * index having at least one keyword occurring in it, however many keywords there are.
+ */
+public class KeywordMatcher {
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final int[] fail;
+    private final int[] match;
+
+    public KeywordMatcher(List<List<String>> groups) {
+        List<Integer> ends = new ArrayList<>();
+        newState(ends);
+
+        for (int group = 0; group < groups.size(); group++) {
+            for (String keyword : groups.get(group)) {
+                if (keyword == null || keyword.isEmpty()) {
+                    continue;
+                }
+                int state = 0;
+                for (char c : keyword.toCharArray()) {
+                    Integer next = transitions.get(state).get(c);
+                    if (next == null) {
+                        next = newState(ends);
+                        transitions.get(state).put(c, next);
+                    }
+                    state = next;
+                }
+                ends.set(state, Math.min(ends.get(state), group));
+            }
+        }
+
+        int states = transitions.size();
+        fail = new int[states];
+        match = new int[states];
+        for (int state = 0; state < states; state++) {
+            match[state] = ends.get(state);
+        }
+
+        // Breadth-first, so a state's failure target is complete before its children are linked
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int target = state == 0 ? 0 : follow(fail[state], edge.getKey());
+                fail[child] = target;
+                match[child] = Math.min(match[child], match[target]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Returns the lowest group index with a keyword contained in the text, or -1 when none occurs.
+     */
+    public int firstGroup(String text) {
+        int best = NO_MATCH;
+        int state = 0;
+        for (int i = 0; i < text.length() && best > 0; i++) {
+            state = follow(state, text.charAt(i));
+            best = Math.min(best, match[state]);
+        }
+        return best == NO_MATCH ? -1 : best;
+    }
+
+    private int follow(int state, char c) {
+        while (true) {
+            Integer next = transitions.get(state).get(c);
+            if (next != null) {
+                return next;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int newState(List<Integer> ends) {
+        transitions.add(new HashMap<>());
+        ends.add(NO_MATCH);
+        return transitions.size() - 1;
+    }
+}
@@ -14,9 +14,12 @@ import java.lang.reflect.Type;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -111,6 +114,10 @@ public class McpConfig {
         private Set<String> adminTokens = new HashSet<>();
         private Set<String> playerTokens = new HashSet<>();
         private boolean enabled = true;
+        private int failuresBeforeBan = 5;
+        private int banSeconds = 30;
+        private int maxBanSeconds = 3600;
+        private Set<String> trustedProxies = new HashSet<>();
 
         public Set<String> getAdminTokens() {
             return adminTokens;
@@ -135,12 +142,49 @@ public class McpConfig {
         public void setEnabled(boolean enabled) {
             this.enabled = enabled;
         }
+
+        public int getFailuresBeforeBan() {
+            return failuresBeforeBan;
+        }
+
+        public void setFailuresBeforeBan(int failuresBeforeBan) {
+            this.failuresBeforeBan = failuresBeforeBan;
+        }
+
+        public int getBanSeconds() {
+            return banSeconds;
+        }
+
+        public void setBanSeconds(int banSeconds) {
+            this.banSeconds = banSeconds;
+        }
+
+        public int getMaxBanSeconds() {
+            return maxBanSeconds;
+        }
+
+        public void setMaxBanSeconds(int maxBanSeconds) {
+            this.maxBanSeconds = maxBanSeconds;
+        }
+
+        public Set<String> getTrustedProxies() {
+            return trustedProxies;
+        }
+
+        public void setTrustedProxies(Set<String> trustedProxies) {
+            this.trustedProxies = trustedProxies;
+        }
     }
 
     public static class FeaturesConfig {
         private FeaturePermissions players = new FeaturePermissions();
         private FeaturePermissions admins = new FeaturePermissions();
         private int maxBlocksBatch = 1000;
+        private int maxPackedBlocksBatch = 10000;
+        private WriteBudgetConfig writeBudget = new WriteBudgetConfig();
+        private PlayerTrackingConfig playerTracking = new PlayerTrackingConfig();
+        private RateLimitConfig rateLimits = new RateLimitConfig();
+        private List<BlockCategoryRule> blockCategories = BlockCategoryRule.defaults();
 
         public FeaturePermissions getPlayers() {
             return players;
@@ -165,6 +209,236 @@ public class McpConfig {
         public void setMaxBlocksBatch(int maxBlocksBatch) {
             this.maxBlocksBatch = maxBlocksBatch;
         }
+
+        public int getMaxPackedBlocksBatch() {
+            return maxPackedBlocksBatch;
+        }
+
+        public void setMaxPackedBlocksBatch(int maxPackedBlocksBatch) {
+            this.maxPackedBlocksBatch = maxPackedBlocksBatch;
+        }
+
+        public WriteBudgetConfig getWriteBudget() {
+            return writeBudget;
+        }
+
+        public void setWriteBudget(WriteBudgetConfig writeBudget) {
+            this.writeBudget = writeBudget;
+        }
+
+        public PlayerTrackingConfig getPlayerTracking() {
+            return playerTracking;
+        }
+
+        public void setPlayerTracking(PlayerTrackingConfig playerTracking) {
+            this.playerTracking = playerTracking;
+        }
+
+        public RateLimitConfig getRateLimits() {
+            return rateLimits;
+        }
+
+        public void setRateLimits(RateLimitConfig rateLimits) {
+            this.rateLimits = rateLimits;
+        }
+
+        public List<BlockCategoryRule> getBlockCategories() {
+            return blockCategories;
+        }
+
+        public void setBlockCategories(List<BlockCategoryRule> blockCategories) {
+            this.blockCategories = blockCategories;
+        }
+    }
+
+    public static class WriteBudgetConfig {
+        private int blocksPerTick = 256;
+        private int millisPerTick = 5;
+        private int tickIntervalMs = 33;
+
+        public int getBlocksPerTick() {
+            return blocksPerTick;
+        }
+
+        public void setBlocksPerTick(int blocksPerTick) {
+            this.blocksPerTick = blocksPerTick;
+        }
+
+        public int getMillisPerTick() {
+            return millisPerTick;
+        }
+
+        public void setMillisPerTick(int millisPerTick) {
+            this.millisPerTick = millisPerTick;
+        }
+
+        public int getTickIntervalMs() {
+            return tickIntervalMs;
+        }
+
+        public void setTickIntervalMs(int tickIntervalMs) {
+            this.tickIntervalMs = tickIntervalMs;
+        }
+    }
+
+    public static class PlayerTrackingConfig {
+        private int refreshIntervalMs = 250;
+        private int trailSampleIntervalMs = 1000;
+        private int trailLength = 600;
+
+        public int getRefreshIntervalMs() {
+            return refreshIntervalMs;
+        }
+
+        public void setRefreshIntervalMs(int refreshIntervalMs) {
+            this.refreshIntervalMs = refreshIntervalMs;
+        }
+
+        public int getTrailSampleIntervalMs() {
+            return trailSampleIntervalMs;
+        }
+
+        public void setTrailSampleIntervalMs(int trailSampleIntervalMs) {
+            this.trailSampleIntervalMs = trailSampleIntervalMs;
+        }
+
+        public int getTrailLength() {
+            return trailLength;
+        }
+
+        public void setTrailLength(int trailLength) {
+            this.trailLength = trailLength;
+        }
+    }
+
+    public static class RateLimitConfig {
+        // Off unless configured, so upgrading does not start rejecting calls that used to go through
+        private boolean enabled = false;
+        private int maxConcurrentCalls = 4;
+        private ToolRateLimit defaults = new ToolRateLimit(120, 20);
+        private Map<String, ToolRateLimit> tools = defaultToolLimits();
+
+        private static Map<String, ToolRateLimit> defaultToolLimits() {
+            Map<String, ToolRateLimit> tools = new LinkedHashMap<>();
+            tools.put("set_blocks_batch", new ToolRateLimit(20, 5));
+            tools.put("flatten_terrain", new ToolRateLimit(6, 2));
+            tools.put("execute_command", new ToolRateLimit(30, 10));
+            return tools;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public ToolRateLimit getDefaults() {
+            return defaults;
+        }
+
+        public void setDefaults(ToolRateLimit defaults) {
+            this.defaults = defaults;
+        }
+
+        public Map<String, ToolRateLimit> getTools() {
+            return tools;
+        }
+
+        public void setTools(Map<String, ToolRateLimit> tools) {
+            this.tools = tools;
+        }
+
+        public ToolRateLimit forTool(String toolName) {
+            ToolRateLimit limit = tools != null ? tools.get(toolName) : null;
+            return limit != null ? limit : defaults;
+        }
+    }
+
+    public static class ToolRateLimit {
+        private int callsPerMinute;
+        private int burst;
+
+        public ToolRateLimit() {
+        }
+
+        public ToolRateLimit(int callsPerMinute, int burst) {
+            this.callsPerMinute = callsPerMinute;
+            this.burst = burst;
+        }
+
+        public int getCallsPerMinute() {
+            return callsPerMinute;
+        }
+
+        public void setCallsPerMinute(int callsPerMinute) {
+            this.callsPerMinute = callsPerMinute;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+
+    public static class BlockCategoryRule {
+        private String category;
+        private List<String> keywords = new ArrayList<>();
+
+        public BlockCategoryRule() {
+        }
+
+        public BlockCategoryRule(String category, String... keywords) {
+            this.category = category;
+            this.keywords = new ArrayList<>(List.of(keywords));
+        }
+
+        static List<BlockCategoryRule> defaults() {
+            return new ArrayList<>(List.of(
+                new BlockCategoryRule("building", "brick", "concrete", "cement", "plaster", "tile", "slab", "stair", "wall", "fence"),
+                new BlockCategoryRule("ore", "ore", "vein", "deposit"),
+                new BlockCategoryRule("stone", "stone", "rock", "cobble", "granite", "marble", "slate", "limestone", "sandstone"),
+                new BlockCategoryRule("wood", "wood", "log", "plank", "lumber", "timber"),
+                new BlockCategoryRule("metal", "iron", "steel", "copper", "bronze", "gold", "silver", "metal", "ingot"),
+                new BlockCategoryRule("glass", "glass", "pane", "window"),
+                new BlockCategoryRule("nature", "grass", "dirt", "soil", "sand", "gravel", "clay", "leaf", "leaves", "flower",
+                    "plant", "tree", "bush", "vine", "moss", "mushroom"),
+                new BlockCategoryRule("decoration", "carpet", "rug", "banner", "painting", "frame", "pot", "vase", "decoration",
+                    "ornament", "lamp", "lantern", "torch", "candle", "chandelier"),
+                new BlockCategoryRule("food", "food", "bread", "meat", "fish", "fruit", "vegetable", "berry", "apple", "carrot",
+                    "potato", "wheat", "crop"),
+                new BlockCategoryRule("tool", "pickaxe", "axe", "shovel", "hoe", "hammer", "saw", "tool"),
+                new BlockCategoryRule("weapon", "sword", "bow", "arrow", "spear", "dagger", "weapon", "blade")
+            ));
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public void setCategory(String category) {
+            this.category = category;
+        }
+
+        public List<String> getKeywords() {
+            return keywords;
+        }
+
+        public void setKeywords(List<String> keywords) {
+            this.keywords = keywords;
+        }
     }
 
     public static class FeaturePermissions {
@@ -0,0 +1,20 @@
+package com.top_serveurs.hytale.plugins.mcp.features;
+
+import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Feature whose work completes later, typically on a world thread. The registry subscribes to the
+ * returned future instead of blocking a webserver thread on it.
+ */
+public interface AsyncMcpFeature extends McpFeature {
+    CompletableFuture<McpToolResponse> executeAsync(McpToolCall call, McpAuthManager.AuthLevel authLevel);
+
+    @Override
+    default McpToolResponse execute(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
+        return executeAsync(call, authLevel).join();
+    }
+}
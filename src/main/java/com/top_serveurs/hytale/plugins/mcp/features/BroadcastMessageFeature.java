@@ -1,7 +1,5 @@
 package com.top_serveurs.hytale.plugins.mcp.features;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.HytaleServer;
 import com.hypixel.hytale.server.core.Message;
@@ -13,7 +11,6 @@ import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
 
 public class BroadcastMessageFeature implements McpFeature {
-    private static final Gson GSON = new Gson();
     private final HytaleLogger logger;
 
     public BroadcastMessageFeature(HytaleLogger logger, McpConfig config) {
@@ -47,18 +44,19 @@ public class BroadcastMessageFeature implements McpFeature {
     @Override
     public McpToolResponse execute(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
         try {
-            String message = call.getArguments().get("message").toString();
+            String message = call.getString("message");
             if (message == null || message.isEmpty()) {
                 return McpToolResponse.error("Message is required");
             }
 
             Universe.get().sendMessage(Message.raw(message));
 
-            JsonObject response = new JsonObject();
-            response.addProperty("message", message);
-            response.addProperty("status", "broadcasted");
-
-            return McpToolResponse.success(GSON.toJson(response));
+            return McpToolResponse.json(json -> {
+                json.writeStartObject();
+                json.writeStringField("message", message);
+                json.writeStringField("status", "broadcasted");
+                json.writeEndObject();
+            });
         } catch (Exception e) {
             logger.atSevere().withCause(e).log("Error broadcasting message");
             return McpToolResponse.error("Failed to broadcast message: " + e.getMessage());
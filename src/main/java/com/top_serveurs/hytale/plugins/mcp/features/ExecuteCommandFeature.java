@@ -1,7 +1,5 @@
 package com.top_serveurs.hytale.plugins.mcp.features;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.HytaleServer;
 import com.hypixel.hytale.server.core.command.system.CommandManager;
@@ -17,8 +15,7 @@ import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
-public class ExecuteCommandFeature implements McpFeature {
-    private static final Gson GSON = new Gson();
+public class ExecuteCommandFeature implements AsyncMcpFeature {
     private final HytaleLogger logger;
 
     public ExecuteCommandFeature(HytaleLogger logger, McpConfig config) {
@@ -50,11 +47,11 @@ public class ExecuteCommandFeature implements McpFeature {
     }
 
     @Override
-    public McpToolResponse execute(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
+    public CompletableFuture<McpToolResponse> executeAsync(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
         try {
-            String command = call.getArguments().get("command").toString();
+            String command = call.getString("command");
             if (command == null || command.isEmpty()) {
-                return McpToolResponse.error("Command is required");
+                return CompletableFuture.completedFuture(McpToolResponse.error("Command is required"));
             }
 
             if (command.startsWith("/")) {
@@ -63,7 +60,7 @@ public class ExecuteCommandFeature implements McpFeature {
 
             Map<String, World> worlds = Universe.get().getWorlds();
             if (worlds.isEmpty()) {
-                return McpToolResponse.error("No world available to execute command");
+                return CompletableFuture.completedFuture(McpToolResponse.error("No world available to execute command"));
             }
 
             World world = worlds.values().iterator().next();
@@ -77,11 +74,12 @@ public class ExecuteCommandFeature implements McpFeature {
                     logger.atInfo().log("[EXECUTE_COMMAND] Executing: " + finalCommand);
                     commandManager.handleCommand(ConsoleSender.INSTANCE, finalCommand);
 
-                    JsonObject response = new JsonObject();
-                    response.addProperty("command", finalCommand);
-                    response.addProperty("status", "executed");
-
-                    future.complete(McpToolResponse.success(GSON.toJson(response)));
+                    future.complete(McpToolResponse.json(json -> {
+                        json.writeStartObject();
+                        json.writeStringField("command", finalCommand);
+                        json.writeStringField("status", "executed");
+                        json.writeEndObject();
+                    }));
 
                 } catch (Throwable t) {
                     logger.atSevere().withCause(t).log("[EXECUTE_COMMAND] Exception");
@@ -89,11 +87,11 @@ public class ExecuteCommandFeature implements McpFeature {
                 }
             });
 
-            return future.join();
+            return future;
 
         } catch (Exception e) {
             logger.atSevere().withCause(e).log("Error executing command");
-            return McpToolResponse.error("Failed to execute command: " + e.getMessage());
+            return CompletableFuture.completedFuture(McpToolResponse.error("Failed to execute command: " + e.getMessage()));
         }
     }
 
@@ -5,6 +5,7 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
+import com.top_serveurs.hytale.plugins.mcp.auth.RateLimiter;
 import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
 import com.top_serveurs.hytale.plugins.mcp.McpContextKeys;
 import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
@@ -12,20 +13,31 @@ import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
 import io.modelcontextprotocol.json.jackson.JacksonMcpJsonMapper;
 import io.modelcontextprotocol.server.McpServerFeatures;
-import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.server.McpAsyncServerExchange;
 import io.modelcontextprotocol.spec.McpSchema;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class FeatureRegistry {
+    // Features without an async path block (file I/O, universe lookups); keep them off webserver threads
+    private static final Executor BLOCKING_EXECUTOR = task -> Schedulers.boundedElastic().schedule(task);
+    // Calls made while authentication is disabled all share one quota
+    private static final String ANONYMOUS_TOKEN = "anonymous";
+
     private final HytaleLogger logger;
+    private final RateLimiter rateLimiter;
     private final Map<String, McpFeature> features;
 
-    public FeatureRegistry(HytaleLogger logger) {
+    public FeatureRegistry(HytaleLogger logger, RateLimiter rateLimiter) {
         this.logger = logger;
+        this.rateLimiter = rateLimiter;
         this.features = new HashMap<>();
     }
 
@@ -69,20 +81,38 @@ public class FeatureRegistry {
         return feature.execute(call, authLevel);
     }
 
-    public List<McpServerFeatures.SyncToolSpecification> getToolSpecifications(ObjectMapper objectMapper, McpConfig config) {
+    public CompletableFuture<McpToolResponse> executeFeatureAsync(String featureName, McpToolCall call, McpAuthManager.AuthLevel authLevel, McpConfig config) {
+        McpFeature feature = features.get(featureName);
+
+        if (feature == null) {
+            return CompletableFuture.completedFuture(McpToolResponse.error("Feature not found: " + featureName));
+        }
+
+        if (!feature.hasPermission(authLevel, config)) {
+            return CompletableFuture.completedFuture(McpToolResponse.error("Permission denied for feature: " + featureName));
+        }
+
+        if (feature instanceof AsyncMcpFeature) {
+            return ((AsyncMcpFeature) feature).executeAsync(call, authLevel);
+        }
+
+        return CompletableFuture.supplyAsync(() -> feature.execute(call, authLevel), BLOCKING_EXECUTOR);
+    }
+
+    public List<McpServerFeatures.AsyncToolSpecification> getToolSpecifications(ObjectMapper objectMapper, McpConfig config) {
         JacksonMcpJsonMapper jsonMapper = new JacksonMcpJsonMapper(objectMapper);
         return features.values().stream()
             .map(feature -> buildToolSpec(feature, jsonMapper, config))
             .toList();
     }
 
-    private McpServerFeatures.SyncToolSpecification buildToolSpec(
+    private McpServerFeatures.AsyncToolSpecification buildToolSpec(
         McpFeature feature,
         JacksonMcpJsonMapper jsonMapper,
         McpConfig config
     ) {
         McpTool tool = feature.getToolDefinition();
-        return McpServerFeatures.SyncToolSpecification.builder()
+        return McpServerFeatures.AsyncToolSpecification.builder()
             .tool(McpSchema.Tool.builder()
                 .name(tool.getName())
                 .description(tool.getDescription())
@@ -92,32 +122,50 @@ public class FeatureRegistry {
             .build();
     }
 
-    private McpSchema.CallToolResult callTool(
-        McpSyncServerExchange exchange,
+    private Mono<McpSchema.CallToolResult> callTool(
+        McpAsyncServerExchange exchange,
         McpSchema.CallToolRequest request,
         String toolName,
         McpConfig config
     ) {
-        try {
-            McpAuthManager.AuthLevel authLevel = getAuthLevel(exchange);
-            Map<String, Object> arguments = request.arguments() == null ? Map.of() : request.arguments();
-            McpToolCall call = new McpToolCall(request.name(), arguments);
-            McpToolResponse result = executeFeature(toolName, call, authLevel, config);
-
-            return McpSchema.CallToolResult.builder()
+        return Mono.defer(() -> {
+                McpAuthManager.AuthLevel authLevel = getAuthLevel(exchange);
+                String token = getAuthToken(exchange);
+
+                // Quotas are checked before the feature runs, so rejected calls never reach a world thread
+                if (!rateLimiter.tryEnter(token)) {
+                    return Mono.just(McpToolResponse.error("Too many concurrent calls for this token (max " + rateLimiter.getMaxConcurrentCalls() + ")"));
+                }
+                long retryAfterMs = rateLimiter.tryConsume(token, toolName);
+                if (retryAfterMs > 0) {
+                    rateLimiter.exit(token);
+                    return Mono.just(McpToolResponse.error("Rate limit exceeded for " + toolName + ", retry in " + retryAfterMs + " ms"));
+                }
+
+                // Built lazily so a feature throwing before it returns a future still releases the slot
+                return Mono.fromFuture(() -> {
+                        Map<String, Object> arguments = request.arguments() == null ? Map.of() : request.arguments();
+                        McpToolCall call = new McpToolCall(request.name(), arguments, exchange);
+                        return executeFeatureAsync(toolName, call, authLevel, config);
+                    })
+                    .doFinally(signal -> rateLimiter.exit(token))
+                    // Futures completed by a world thread would otherwise serialise and send the result inside its tick
+                    .publishOn(Schedulers.boundedElastic());
+            })
+            .map(result -> McpSchema.CallToolResult.builder()
                 .isError(result.isError())
                 .addTextContent(result.getContent())
-                .build();
-        } catch (Exception e) {
-            logger.atSevere().withCause(e).log("Tool execution failed: " + toolName);
-            return McpSchema.CallToolResult.builder()
-                .isError(true)
-                .addTextContent("Failed to execute tool: " + toolName)
-                .build();
-        }
+                .build())
+            .onErrorResume(e -> {
+                logger.atSevere().withCause(e).log("Tool execution failed: " + toolName);
+                return Mono.just(McpSchema.CallToolResult.builder()
+                    .isError(true)
+                    .addTextContent("Failed to execute tool: " + toolName)
+                    .build());
+            });
     }
 
-    private static McpAuthManager.AuthLevel getAuthLevel(McpSyncServerExchange exchange) {
+    private static McpAuthManager.AuthLevel getAuthLevel(McpAsyncServerExchange exchange) {
         if (exchange == null || exchange.transportContext() == null) {
             return McpAuthManager.AuthLevel.NONE;
         }
@@ -127,4 +175,12 @@ public class FeatureRegistry {
         }
         return McpAuthManager.AuthLevel.NONE;
     }
+
+    private static String getAuthToken(McpAsyncServerExchange exchange) {
+        if (exchange == null || exchange.transportContext() == null) {
+            return ANONYMOUS_TOKEN;
+        }
+        Object value = exchange.transportContext().get(McpContextKeys.AUTH_TOKEN);
+        return value != null ? value.toString() : ANONYMOUS_TOKEN;
+    }
 }
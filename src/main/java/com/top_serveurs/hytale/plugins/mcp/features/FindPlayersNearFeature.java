@@ -0,0 +1,170 @@
+package com.top_serveurs.hytale.plugins.mcp.features;
+
+import com.google.gson.JsonObject;
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
+import com.top_serveurs.hytale.plugins.mcp.players.PlayerGrid;
+import com.top_serveurs.hytale.plugins.mcp.players.PlayerTracker;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class FindPlayersNearFeature implements McpFeature {
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    private final HytaleLogger logger;
+    private final PlayerTracker playerTracker;
+
+    public FindPlayersNearFeature(HytaleLogger logger, PlayerTracker playerTracker) {
+        this.logger = logger;
+        this.playerTracker = playerTracker;
+    }
+
+    @Override
+    public String getName() {
+        return "find_players_near";
+    }
+
+    @Override
+    public McpTool getToolDefinition() {
+        return new McpTool(
+            "find_players_near",
+            "Finds the players in a world within a radius of a point (nearest first) or inside a box. Positions are sampled a few times per second",
+            "function"
+        );
+    }
+
+    @Override
+    public String getInputSchema() {
+        return McpToolSchema.schemaWithProperties(
+            Map.of(
+                "world", McpToolSchema.stringProperty("World UUID"),
+                "center", pointProperty("Center of a radius query"),
+                "radius", McpToolSchema.numberProperty("Distance from center in blocks"),
+                "min", pointProperty("Lower corner of a box query"),
+                "max", pointProperty("Upper corner of a box query"),
+                "limit", McpToolSchema.integerProperty("Maximum players returned (optional, default: " + DEFAULT_LIMIT + ", max: " + MAX_LIMIT + ")")
+            ),
+            List.of("world")
+        );
+    }
+
+    private static JsonObject pointProperty(String description) {
+        return McpToolSchema.objectProperty(
+            Map.of(
+                "x", McpToolSchema.numberProperty(null),
+                "y", McpToolSchema.numberProperty(null),
+                "z", McpToolSchema.numberProperty(null)
+            ),
+            List.of("x", "y", "z"),
+            description
+        );
+    }
+
+    @Override
+    public McpToolResponse execute(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
+        try {
+            String world = call.getString("world");
+            if (world == null || world.isEmpty()) {
+                return McpToolResponse.error("world UUID is required");
+            }
+            UUID worldUuid;
+            try {
+                worldUuid = UUID.fromString(world);
+            } catch (IllegalArgumentException e) {
+                return McpToolResponse.error("Invalid world UUID");
+            }
+
+            Integer limitArg = call.getInteger("limit");
+            int limit = limitArg != null ? Math.max(1, Math.min(limitArg, MAX_LIMIT)) : DEFAULT_LIMIT;
+
+            Map<String, Object> args = call.getArguments();
+            double[] center = parsePoint(args.get("center"), "center");
+            double[] min = parsePoint(args.get("min"), "min");
+            double[] max = parsePoint(args.get("max"), "max");
+            Double radius = call.getDouble("radius");
+
+            PlayerGrid grid = playerTracker.getGrid();
+            List<PlayerGrid.Entry> matches;
+            if (center != null) {
+                if (min != null || max != null) {
+                    return McpToolResponse.error("Use either center and radius or min and max, not both");
+                }
+                if (radius == null || radius < 0) {
+                    return McpToolResponse.error("radius is required with center and must not be negative");
+                }
+                matches = grid.withinRadius(worldUuid, center[0], center[1], center[2], radius);
+            } else if (min != null && max != null) {
+                matches = grid.withinBox(worldUuid,
+                    Math.min(min[0], max[0]), Math.min(min[1], max[1]), Math.min(min[2], max[2]),
+                    Math.max(min[0], max[0]), Math.max(min[1], max[1]), Math.max(min[2], max[2]));
+            } else {
+                return McpToolResponse.error("Either center and radius or min and max are required");
+            }
+
+            int returned = Math.min(limit, matches.size());
+            long ageMs = Math.max(0, System.currentTimeMillis() - grid.getTimestamp());
+
+            return McpToolResponse.json(json -> {
+                json.writeStartObject();
+                json.writeNumberField("matched", matches.size());
+                json.writeNumberField("count", returned);
+                json.writeNumberField("ageMs", ageMs);
+                json.writeArrayFieldStart("players");
+                for (int i = 0; i < returned; i++) {
+                    PlayerGrid.Entry entry = matches.get(i);
+                    json.writeStartObject();
+                    json.writeStringField("name", entry.getName());
+                    json.writeStringField("uuid", entry.getUuid().toString());
+                    json.writeNumberField("x", entry.getX());
+                    json.writeNumberField("y", entry.getY());
+                    json.writeNumberField("z", entry.getZ());
+                    if (center != null) {
+                        json.writeNumberField("distance", Math.sqrt(entry.distanceSquared(center[0], center[1], center[2])));
+                    }
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+            });
+        } catch (IllegalArgumentException e) {
+            return McpToolResponse.error(e.getMessage());
+        } catch (Exception e) {
+            logger.atSevere().withCause(e).log("Error finding players");
+            return McpToolResponse.error("Failed to find players: " + e.getMessage());
+        }
+    }
+
+    private static double[] parsePoint(Object value, String name) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Map) {
+            Map<?, ?> point = (Map<?, ?>) value;
+            Double x = McpToolCall.asDouble(point.get("x"));
+            Double y = McpToolCall.asDouble(point.get("y"));
+            Double z = McpToolCall.asDouble(point.get("z"));
+            if (x != null && y != null && z != null) {
+                return new double[] {x, y, z};
+            }
+        }
+        throw new IllegalArgumentException(name + " must be an object with x, y and z");
+    }
+
+    @Override
+    public boolean hasPermission(McpAuthManager.AuthLevel authLevel, McpConfig config) {
+        if (authLevel == McpAuthManager.AuthLevel.ADMIN) {
+            return config.getFeatures().getAdmins().canGetPlayerPosition();
+        }
+        if (authLevel == McpAuthManager.AuthLevel.PLAYER) {
+            return config.getFeatures().getPlayers().canGetPlayerPosition();
+        }
+        return false;
+    }
+}
@@ -1,7 +1,5 @@
 package com.top_serveurs.hytale.plugins.mcp.features;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.universe.Universe;
@@ -12,19 +10,22 @@ import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
 import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
+import com.top_serveurs.hytale.plugins.mcp.world.RegionFillJob;
+import com.top_serveurs.hytale.plugins.mcp.world.WorldWriteScheduler;
 
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
-public class FlattenTerrainFeature implements McpFeature {
+public class FlattenTerrainFeature implements AsyncMcpFeature {
 
-    private static final Gson GSON = new Gson();
     private final HytaleLogger logger;
     private final McpConfig config;
+    private final WorldWriteScheduler writeScheduler;
 
-    public FlattenTerrainFeature(HytaleLogger logger, McpConfig config) {
+    public FlattenTerrainFeature(HytaleLogger logger, McpConfig config, WorldWriteScheduler writeScheduler) {
         this.logger = logger;
         this.config = config;
+        this.writeScheduler = writeScheduler;
     }
 
     @Override
@@ -59,23 +60,23 @@ public class FlattenTerrainFeature implements McpFeature {
     }
 
     @Override
-    public McpToolResponse execute(McpToolCall call, AuthLevel authLevel) {
+    public CompletableFuture<McpToolResponse> executeAsync(McpToolCall call, AuthLevel authLevel) {
         try {
-            String worldUuidStr = getArgumentAsString(call, "world");
-            Integer x1 = getArgumentAsInteger(call, "x1");
-            Integer z1 = getArgumentAsInteger(call, "z1");
-            Integer x2 = getArgumentAsInteger(call, "x2");
-            Integer z2 = getArgumentAsInteger(call, "z2");
-            Integer targetY = getArgumentAsInteger(call, "y");
-            String fillBlockStr = getArgumentAsString(call, "fillBlock");
-            Integer maxHeight = getArgumentAsInteger(call, "maxHeight");
+            String worldUuidStr = call.getString("world");
+            Integer x1 = call.getInteger("x1");
+            Integer z1 = call.getInteger("z1");
+            Integer x2 = call.getInteger("x2");
+            Integer z2 = call.getInteger("z2");
+            Integer targetY = call.getInteger("y");
+            String fillBlockStr = call.getString("fillBlock");
+            Integer maxHeight = call.getInteger("maxHeight");
 
             // Validation
             if (worldUuidStr == null) {
-                return McpToolResponse.error("world UUID is required");
+                return CompletableFuture.completedFuture(McpToolResponse.error("world UUID is required"));
             }
             if (x1 == null || z1 == null || x2 == null || z2 == null || targetY == null) {
-                return McpToolResponse.error("x1, z1, x2, z2, and y are required");
+                return CompletableFuture.completedFuture(McpToolResponse.error("x1, z1, x2, z2, and y are required"));
             }
 
             // Default values
@@ -100,93 +101,73 @@ public class FlattenTerrainFeature implements McpFeature {
             // Check block count limits (higher limit for terrain flattening)
             int maxBlocks = config.getFeatures().getMaxBlocksBatch() * 10;
             if (totalBlocks > maxBlocks) {
-                return McpToolResponse.error("Area too large. Total blocks: " + totalBlocks + ", max: " + maxBlocks);
+                return CompletableFuture.completedFuture(McpToolResponse.error("Area too large. Total blocks: " + totalBlocks + ", max: " + maxBlocks));
             }
 
             // Validate fill block type
             BlockType fillBlock = BlockType.getAssetMap().getAsset(fillBlockStr);
             if (fillBlock == null || fillBlock == BlockType.EMPTY) {
-                return McpToolResponse.error("Unknown fill block type: " + fillBlockStr);
+                return CompletableFuture.completedFuture(McpToolResponse.error("Unknown fill block type: " + fillBlockStr));
             }
 
             UUID worldUuid;
             try {
                 worldUuid = UUID.fromString(worldUuidStr);
             } catch (IllegalArgumentException e) {
-                return McpToolResponse.error("Invalid world UUID");
+                return CompletableFuture.completedFuture(McpToolResponse.error("Invalid world UUID"));
             }
 
             World world = Universe.get().getWorld(worldUuid);
             if (world == null) {
-                return McpToolResponse.error("World not found: " + worldUuidStr);
+                return CompletableFuture.completedFuture(McpToolResponse.error("World not found: " + worldUuidStr));
             }
 
-            CompletableFuture<McpToolResponse> future = new CompletableFuture<>();
             final String finalFillBlockStr = fillBlockStr;
             final int finalMaxHeight = maxHeight;
+            RegionFillJob job = new RegionFillJob(
+                minX, maxX, 0, finalMaxHeight, minZ, maxZ, targetY,
+                fillBlock.getId(), BlockType.getAssetMap().getIndex(fillBlock.getId()),
+                BlockType.EMPTY.getId(), BlockType.getAssetMap().getIndex(BlockType.EMPTY.getId())
+            );
 
-            world.execute(() -> {
-                try {
-                    long startTime = System.currentTimeMillis();
-                    int blocksPlaced = 0;
-                    int blocksCleared = 0;
-
-                    logger.atInfo().log("[FLATTEN_TERRAIN] Starting flatten from (" + minX + "," + minZ + ") to (" + maxX + "," + maxZ + ") at Y=" + targetY);
-
-                    // Process each column in the flattening area
-                    for (int x = minX; x <= maxX; x++) {
-                        for (int z = minZ; z <= maxZ; z++) {
-                            // Fill below targetY with fill block
-                            for (int y = 0; y < targetY; y++) {
-                                world.setBlock(x, y, z, fillBlock.getId(), 0);
-                                blocksPlaced++;
-                            }
-
-                            // Place surface block at targetY
-                            world.setBlock(x, targetY, z, fillBlock.getId(), 0);
-                            blocksPlaced++;
-
-                            // Clear above with air
-                            for (int y = targetY + 1; y <= finalMaxHeight; y++) {
-                                world.setBlock(x, y, z, BlockType.EMPTY.getId(), 0);
-                                blocksCleared++;
-                            }
-                        }
-                    }
+            logger.atInfo().log("[FLATTEN_TERRAIN] Starting flatten from (" + minX + "," + minZ + ") to (" + maxX + "," + maxZ + ") at Y=" + targetY);
+            long startTime = System.currentTimeMillis();
 
+            return writeScheduler.submit(world, job)
+                .thenApply(result -> {
                     long duration = System.currentTimeMillis() - startTime;
 
-                    JsonObject response = new JsonObject();
-                    response.addProperty("area", surface);
-                    response.addProperty("minX", minX);
-                    response.addProperty("maxX", maxX);
-                    response.addProperty("minZ", minZ);
-                    response.addProperty("maxZ", maxZ);
-                    response.addProperty("flattenY", targetY);
-                    response.addProperty("maxHeight", finalMaxHeight);
-                    response.addProperty("fillBlock", finalFillBlockStr);
-                    response.addProperty("blocksPlaced", blocksPlaced);
-                    response.addProperty("blocksCleared", blocksCleared);
-                    response.addProperty("totalBlocks", blocksPlaced + blocksCleared);
-                    response.addProperty("durationMs", duration);
-                    response.addProperty("status", "success");
-
                     logger.atInfo().log("[FLATTEN_TERRAIN] Completed in " + duration + "ms. Placed: " +
-                        blocksPlaced + ", Cleared: " + blocksCleared);
-
-                    future.complete(McpToolResponse.success(GSON.toJson(response)));
-
-                } catch (Throwable t) {
+                        result.getBlocksPlaced() + ", Cleared: " + result.getBlocksCleared() +
+                        ", Unchanged: " + result.getBlocksUnchanged());
+
+                    return McpToolResponse.json(json -> {
+                        json.writeStartObject();
+                        json.writeNumberField("area", surface);
+                        json.writeNumberField("minX", minX);
+                        json.writeNumberField("maxX", maxX);
+                        json.writeNumberField("minZ", minZ);
+                        json.writeNumberField("maxZ", maxZ);
+                        json.writeNumberField("flattenY", targetY);
+                        json.writeNumberField("maxHeight", finalMaxHeight);
+                        json.writeStringField("fillBlock", finalFillBlockStr);
+                        json.writeNumberField("blocksPlaced", result.getBlocksPlaced());
+                        json.writeNumberField("blocksCleared", result.getBlocksCleared());
+                        json.writeNumberField("blocksUnchanged", result.getBlocksUnchanged());
+                        json.writeNumberField("totalBlocks", result.getBlocksPlaced() + result.getBlocksCleared() + result.getBlocksUnchanged());
+                        json.writeNumberField("durationMs", duration);
+                        json.writeStringField("status", "success");
+                        json.writeEndObject();
+                    });
+                })
+                .exceptionally(t -> {
                     logger.atSevere().withCause(t).log("[FLATTEN_TERRAIN] Exception");
-                    future.complete(McpToolResponse.error(t.toString()));
-                }
-            });
-
-            return future.join();
+                    return McpToolResponse.error(t.toString());
+                });
 
         } catch (Exception e) {
             logger.atSevere().withCause(e).log("Error flattening terrain");
-            return McpToolResponse.error("Failed to flatten terrain: " + e.getMessage());
+            return CompletableFuture.completedFuture(McpToolResponse.error("Failed to flatten terrain: " + e.getMessage()));
         }
     }
 
@@ -200,24 +181,4 @@ public class FlattenTerrainFeature implements McpFeature {
         }
         return false;
     }
-
-    private String getArgumentAsString(McpToolCall call, String key) {
-        Object value = call.getArguments().get(key);
-        return value != null ? value.toString() : null;
-    }
-
-    private Integer getArgumentAsInteger(McpToolCall call, String key) {
-        Object value = call.getArguments().get(key);
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof Number) {
-            return ((Number) value).intValue();
-        }
-        try {
-            return Integer.parseInt(value.toString());
-        } catch (NumberFormatException e) {
-            return null;
-        }
-    }
 }
@@ -1,33 +1,40 @@
 package com.top_serveurs.hytale.plugins.mcp.features;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
 import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+import com.top_serveurs.hytale.plugins.mcp.logs.LogArchiveSearch;
+import com.top_serveurs.hytale.plugins.mcp.logs.LogFiles;
+import com.top_serveurs.hytale.plugins.mcp.logs.LogIndexer;
+import com.top_serveurs.hytale.plugins.mcp.logs.LogQuery;
+import com.top_serveurs.hytale.plugins.mcp.logs.ReverseLineReader;
 import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 public class GetLogsFeature implements McpFeature {
-    private static final Gson GSON = new Gson();
     private static final int MAX_LINES = 1000;
     private static final int DEFAULT_LINES = 100;
     private final HytaleLogger logger;
+    private final LogIndexer logIndexer;
+    private final LogArchiveSearch archiveSearch;
 
-    public GetLogsFeature(HytaleLogger logger) {
+    public GetLogsFeature(HytaleLogger logger, LogIndexer logIndexer, LogArchiveSearch archiveSearch) {
         this.logger = logger;
+        this.logIndexer = logIndexer;
+        this.archiveSearch = archiveSearch;
     }
 
     @Override
@@ -39,7 +46,7 @@ public class GetLogsFeature implements McpFeature {
     public McpTool getToolDefinition() {
         return new McpTool(
             "get_logs",
-            "Retrieves server logs. Optionally specify line count, log level, and date. Default: 100 lines, all levels, latest logs.",
+            "Retrieves the most recent server log lines. Optionally filter by log level, time range and regular expression, read another day's log, or search a range of days including compressed archives. Default: 100 lines, all levels, latest logs.",
             "function"
         );
     }
@@ -50,7 +57,12 @@ public class GetLogsFeature implements McpFeature {
             java.util.Map.of(
                 "lines", McpToolSchema.integerProperty("Number of lines to return (max 1000)"),
                 "level", McpToolSchema.stringProperty("Filter by log level, e.g. INFO, WARN, ERROR"),
-                "date", McpToolSchema.stringProperty("Log file date in YYYY-MM-DD format")
+                "date", McpToolSchema.stringProperty("Log file date in YYYY-MM-DD format"),
+                "from", McpToolSchema.stringProperty("First day of a multi-day search in YYYY-MM-DD format, including rotated and .gz logs"),
+                "to", McpToolSchema.stringProperty("Last day of a multi-day search in YYYY-MM-DD format (default: today)"),
+                "since", McpToolSchema.stringProperty("Only lines logged at or after this time, e.g. 2026-02-01T10:30:00"),
+                "until", McpToolSchema.stringProperty("Only lines logged at or before this time, e.g. 2026-02-01T11:00:00"),
+                "grep", McpToolSchema.stringProperty("Only lines matching this regular expression, applied to the first " + LogQuery.MAX_BOUNDED_LENGTH + " characters of each line. A pattern too slow to evaluate fails the call")
             ),
             java.util.List.of()
         );
@@ -62,125 +74,172 @@ public class GetLogsFeature implements McpFeature {
             int lineCount = DEFAULT_LINES;
             String logLevel = null;
             String date = null;
+            LocalDate from = null;
+            LocalDate to = null;
+            LocalDateTime since = null;
+            LocalDateTime until = null;
+            Pattern grep = null;
 
             if (call.getArguments() != null) {
-                Object linesObj = call.getArguments().get("lines");
-                if (linesObj != null) {
-                    try {
-                        lineCount = Integer.parseInt(linesObj.toString());
-                        if (lineCount <= 0) {
-                            return McpToolResponse.error("Line count must be positive");
-                        }
-                        if (lineCount > MAX_LINES) {
-                            lineCount = MAX_LINES;
-                        }
-                    } catch (NumberFormatException e) {
+                if (call.getArguments().get("lines") != null) {
+                    Integer lines = call.getInteger("lines");
+                    if (lines == null) {
                         return McpToolResponse.error("Invalid line count: must be a number");
                     }
+                    if (lines <= 0) {
+                        return McpToolResponse.error("Line count must be positive");
+                    }
+                    lineCount = Math.min(lines, MAX_LINES);
                 }
 
-                Object levelObj = call.getArguments().get("level");
-                if (levelObj != null) {
-                    logLevel = levelObj.toString().toUpperCase();
+                String levelArg = call.getString("level");
+                if (levelArg != null) {
+                    logLevel = levelArg.toUpperCase();
                 }
 
-                Object dateObj = call.getArguments().get("date");
-                if (dateObj != null) {
-                    date = dateObj.toString();
+                date = call.getString("date");
+
+                try {
+                    from = parseDate(call.getString("from"));
+                    to = parseDate(call.getString("to"));
+                } catch (DateTimeParseException e) {
+                    return McpToolResponse.error("Invalid date: expected YYYY-MM-DD");
+                }
+                if (from == null && to != null) {
+                    return McpToolResponse.error("from is required with to");
+                }
+                if (from != null && to == null) {
+                    to = LocalDate.now();
+                }
+                if (from != null && from.isAfter(to)) {
+                    return McpToolResponse.error("from must not be after to");
                 }
-            }
 
-            String logContent = readLogs(lineCount, logLevel, date);
+                try {
+                    since = parseTime(call.getString("since"));
+                    until = parseTime(call.getString("until"));
+                } catch (DateTimeParseException e) {
+                    return McpToolResponse.error("Invalid time: expected YYYY-MM-DDTHH:MM[:SS]");
+                }
 
-            JsonObject response = new JsonObject();
-            response.addProperty("lineCount", lineCount);
-            if (logLevel != null) {
-                response.addProperty("level", logLevel);
-            }
-            if (date != null) {
-                response.addProperty("date", date);
+                String grepArg = call.getString("grep");
+                if (grepArg != null && !grepArg.isEmpty()) {
+                    try {
+                        grep = Pattern.compile(grepArg);
+                    } catch (PatternSyntaxException e) {
+                        return McpToolResponse.error("Invalid grep pattern: " + e.getDescription());
+                    }
+                }
             }
-            response.addProperty("content", logContent);
-            response.addProperty("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
 
-            return McpToolResponse.success(GSON.toJson(response));
+            LogQuery query = new LogQuery(logLevel, since, until, grep);
+            String logContent = from != null
+                ? searchRange(lineCount, query, from, to)
+                : readLogs(lineCount, query, date);
+            final int finalLineCount = lineCount;
+            final String finalLogLevel = logLevel;
+            final String finalDate = date;
+            final LocalDate finalFrom = from;
+            final LocalDate finalTo = to;
+
+            return McpToolResponse.json(json -> {
+                json.writeStartObject();
+                json.writeNumberField("lineCount", finalLineCount);
+                if (finalLogLevel != null) {
+                    json.writeStringField("level", finalLogLevel);
+                }
+                if (finalDate != null) {
+                    json.writeStringField("date", finalDate);
+                }
+                if (finalFrom != null) {
+                    json.writeStringField("from", finalFrom.toString());
+                    json.writeStringField("to", finalTo.toString());
+                }
+                json.writeStringField("content", logContent);
+                json.writeStringField("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+                json.writeEndObject();
+            });
+        } catch (LogQuery.MatchTimeoutException e) {
+            return McpToolResponse.error("grep pattern is too slow to evaluate, simplify it");
         } catch (Exception e) {
             logger.atSevere().withCause(e).log("Error retrieving logs");
             return McpToolResponse.error("Failed to retrieve logs: " + e.getMessage());
         }
     }
 
-    private String readLogs(int lineCount, String logLevel, String date) throws IOException {
-        File logFile = findLogFile(date);
-        if (logFile == null || !logFile.exists()) {
-            return "No log file found" + (date != null ? " for date: " + date : "");
+    private String readLogs(int lineCount, LogQuery query, String date) throws IOException {
+        // The latest log is indexed in the background; older days are read directly
+        List<String> lines = date == null ? logIndexer.query(query, lineCount) : null;
+        if (lines == null) {
+            lines = scanLogs(lineCount, query, date);
+            if (lines == null) {
+                return "No log file found" + (date != null ? " for date: " + date : "");
+            }
         }
 
-        if (!logFile.canRead()) {
-            return "Permission denied: cannot read log file";
+        if (lines.isEmpty()) {
+            return "No logs found" + (query.getLevel() != null ? " with level: " + query.getLevel() : "");
         }
 
-        List<String> lines = new ArrayList<>();
-        int linesToRead = lineCount;
+        return String.join("\n", lines);
+    }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(logFile))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (logLevel == null || line.contains("[" + logLevel + "]") || 
-                    line.toUpperCase().contains(" " + logLevel + " ")) {
-                    lines.add(line);
-                    if (lines.size() >= linesToRead) {
-                        break;
-                    }
-                }
-            }
+    private String searchRange(int lineCount, LogQuery query, LocalDate from, LocalDate to) throws IOException {
+        List<File> files = LogFiles.findRange(from, to);
+        if (files.isEmpty()) {
+            return "No log files found from " + from + " to " + to;
         }
 
+        List<String> lines = archiveSearch.search(files, query, lineCount);
         if (lines.isEmpty()) {
-            return "No logs found" + (logLevel != null ? " with level: " + logLevel : "");
-        }
-
-        if (lines.size() >= linesToRead) {
-            int fromIndex = Math.max(0, lines.size() - linesToRead);
-            return String.join("\n", lines.subList(fromIndex, lines.size()));
+            return "No logs found" + (query.getLevel() != null ? " with level: " + query.getLevel() : "");
         }
-
         return String.join("\n", lines);
     }
 
-    private File findLogFile(String date) {
-        String logFileName = "latest.log";
-        
-        if (date != null) {
-            logFileName = date + ".log";
+    private List<String> scanLogs(int lineCount, LogQuery query, String date) throws IOException {
+        File logFile = LogFiles.find(date);
+        if (logFile == null || !logFile.exists()) {
+            return null;
         }
 
-        Path[] possiblePaths = {
-            Paths.get("logs", logFileName),
-            Paths.get("..", "logs", logFileName),
-            Paths.get(".", logFileName),
-            Paths.get("server", "logs", logFileName),
-            Paths.get("..", "..", "logs", logFileName)
-        };
-
-        for (Path path : possiblePaths) {
-            File file = path.toFile();
-            if (file.exists() && file.isFile()) {
-                return file;
-            }
+        if (!logFile.canRead()) {
+            throw new IOException("Permission denied: cannot read log file");
+        }
+
+        // Compressed archives can only be read forward
+        if (LogFiles.isCompressed(logFile)) {
+            return archiveSearch.search(List.of(logFile), query, lineCount);
         }
 
-        if (date == null) {
-            File logsDir = new File("logs");
-            if (logsDir.exists() && logsDir.isDirectory()) {
-                File[] logFiles = logsDir.listFiles((dir, name) -> name.endsWith(".log"));
-                if (logFiles != null && logFiles.length > 0) {
-                    return logFiles[logFiles.length - 1];
+        List<String> lines = new ArrayList<>();
+
+        // Walk back from the end of the file so the newest matching lines are found without reading the rest
+        try (ReverseLineReader reader = new ReverseLineReader(logFile)) {
+            String line;
+            while (lines.size() < lineCount && (line = reader.readLine()) != null) {
+                if (query.matches(line, LogQuery.LINE_BUDGET_NANOS)) {
+                    lines.add(line);
                 }
             }
         }
 
-        return null;
+        Collections.reverse(lines);
+        return lines;
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return LocalDate.parse(value.trim());
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return LocalDateTime.parse(value.trim().replace(' ', 'T'));
     }
 
     @Override
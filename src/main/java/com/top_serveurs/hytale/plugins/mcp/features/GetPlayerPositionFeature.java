@@ -1,26 +1,23 @@
 package com.top_serveurs.hytale.plugins.mcp.features;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.Universe;
 import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
 import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
 import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
+import com.top_serveurs.hytale.plugins.mcp.players.PlayerIndex;
 
-import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 public class GetPlayerPositionFeature implements McpFeature {
-    private static final Gson GSON = new Gson();
     private final HytaleLogger logger;
+    private final PlayerIndex playerIndex;
 
-    public GetPlayerPositionFeature(HytaleLogger logger) {
+    public GetPlayerPositionFeature(HytaleLogger logger, PlayerIndex playerIndex) {
         this.logger = logger;
+        this.playerIndex = playerIndex;
     }
 
     @Override
@@ -56,7 +53,7 @@ public class GetPlayerPositionFeature implements McpFeature {
             }
 
             String playerIdentifier = args.get("player").toString();
-            PlayerRef player = findPlayer(playerIdentifier);
+            PlayerRef player = playerIndex.find(playerIdentifier);
 
             if (player == null) {
                 return McpToolResponse.error("Player not found: " + playerIdentifier);
@@ -66,48 +63,26 @@ public class GetPlayerPositionFeature implements McpFeature {
             com.hypixel.hytale.math.vector.Vector3d pos = transform.getPosition();
             com.hypixel.hytale.math.vector.Vector3f rotation = transform.getRotation();
 
-            JsonObject position = new JsonObject();
-            position.addProperty("x", pos.getX());
-            position.addProperty("y", pos.getY());
-            position.addProperty("z", pos.getZ());
-            position.addProperty("worldUuid", player.getWorldUuid().toString());
-            position.addProperty("yaw", rotation.getY());
-            position.addProperty("pitch", rotation.getX());
-
-            JsonObject response = new JsonObject();
-            response.addProperty("name", player.getUsername());
-            response.addProperty("uuid", player.getUuid().toString());
-            response.add("position", position);
-
-            return McpToolResponse.success(GSON.toJson(response));
+            return McpToolResponse.json(json -> {
+                json.writeStartObject();
+                json.writeStringField("name", player.getUsername());
+                json.writeStringField("uuid", player.getUuid().toString());
+                json.writeObjectFieldStart("position");
+                json.writeNumberField("x", pos.getX());
+                json.writeNumberField("y", pos.getY());
+                json.writeNumberField("z", pos.getZ());
+                json.writeStringField("worldUuid", player.getWorldUuid().toString());
+                json.writeNumberField("yaw", rotation.getY());
+                json.writeNumberField("pitch", rotation.getX());
+                json.writeEndObject();
+                json.writeEndObject();
+            });
         } catch (Exception e) {
             logger.atSevere().withCause(e).log("Error getting player position");
             return McpToolResponse.error("Failed to get player position: " + e.getMessage());
         }
     }
 
-    private PlayerRef findPlayer(String identifier) {
-        List<PlayerRef> players = Universe.get().getPlayers();
-        
-        try {
-            UUID uuid = UUID.fromString(identifier);
-            for (PlayerRef player : players) {
-                if (player.getUuid().equals(uuid)) {
-                    return player;
-                }
-            }
-        } catch (IllegalArgumentException e) {
-        }
-        
-        for (PlayerRef player : players) {
-            if (player.getUsername().equalsIgnoreCase(identifier)) {
-                return player;
-            }
-        }
-        
-        return null;
-    }
-
     @Override
     public boolean hasPermission(McpAuthManager.AuthLevel authLevel, McpConfig config) {
         if (authLevel == McpAuthManager.AuthLevel.ADMIN) {
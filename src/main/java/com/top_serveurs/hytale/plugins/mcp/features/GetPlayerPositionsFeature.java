@@ -0,0 +1,201 @@
+package com.top_serveurs.hytale.plugins.mcp.features;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.math.vector.Transform;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.math.vector.Vector3f;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
+import com.top_serveurs.hytale.plugins.mcp.players.PlayerIndex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Returns the positions of many players in one call. Players can be named explicitly, which
+ * resolves each through the index, or selected from every connected player by world and by
+ * distance to a point, which takes a single pass over the roster.
+ */
+public class GetPlayerPositionsFeature implements McpFeature {
+    private final HytaleLogger logger;
+    private final PlayerIndex playerIndex;
+
+    public GetPlayerPositionsFeature(HytaleLogger logger, PlayerIndex playerIndex) {
+        this.logger = logger;
+        this.playerIndex = playerIndex;
+    }
+
+    @Override
+    public String getName() {
+        return "get_player_positions";
+    }
+
+    @Override
+    public McpTool getToolDefinition() {
+        return new McpTool(
+            "get_player_positions",
+            "Gets the positions of several players at once: a list of players, every player in a world, or every player within a radius of a point",
+            "function"
+        );
+    }
+
+    @Override
+    public String getInputSchema() {
+        return McpToolSchema.schemaWithProperties(
+            Map.of(
+                "players", McpToolSchema.arrayProperty(
+                    McpToolSchema.stringProperty(null),
+                    "Player names or UUIDs (optional, default: all connected players)"
+                ),
+                "world", McpToolSchema.stringProperty("Only players in this world UUID (optional)"),
+                "center", McpToolSchema.objectProperty(
+                    Map.of(
+                        "x", McpToolSchema.numberProperty(null),
+                        "y", McpToolSchema.numberProperty(null),
+                        "z", McpToolSchema.numberProperty(null)
+                    ),
+                    List.of("x", "y", "z"),
+                    "Only players within radius of this point (optional, requires radius)"
+                ),
+                "radius", McpToolSchema.numberProperty("Distance from center in blocks")
+            ),
+            List.of()
+        );
+    }
+
+    @Override
+    public McpToolResponse execute(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
+        try {
+            List<?> requested = call.getList("players");
+
+            UUID worldUuid = null;
+            String world = call.getString("world");
+            if (world != null && !world.isEmpty()) {
+                try {
+                    worldUuid = UUID.fromString(world);
+                } catch (IllegalArgumentException e) {
+                    return McpToolResponse.error("Invalid world UUID");
+                }
+            }
+
+            double[] center = null;
+            double radiusSquared = 0;
+            Object centerArg = call.getArguments().get("center");
+            Double radius = call.getDouble("radius");
+            if (centerArg != null) {
+                if (!(centerArg instanceof Map)) {
+                    return McpToolResponse.error("center must be an object with x, y and z");
+                }
+                Map<?, ?> point = (Map<?, ?>) centerArg;
+                Double cx = McpToolCall.asDouble(point.get("x"));
+                Double cy = McpToolCall.asDouble(point.get("y"));
+                Double cz = McpToolCall.asDouble(point.get("z"));
+                if (cx == null || cy == null || cz == null) {
+                    return McpToolResponse.error("center must be an object with x, y and z");
+                }
+                if (radius == null || radius < 0) {
+                    return McpToolResponse.error("radius is required with center and must not be negative");
+                }
+                center = new double[] {cx, cy, cz};
+                radiusSquared = radius * radius;
+            } else if (radius != null) {
+                return McpToolResponse.error("radius requires center");
+            }
+
+            Collection<PlayerRef> candidates;
+            List<String> notFound = new ArrayList<>();
+            if (requested != null) {
+                candidates = new ArrayList<>(requested.size());
+                for (Object entry : requested) {
+                    String identifier = entry != null ? entry.toString() : "";
+                    PlayerRef player = playerIndex.find(identifier);
+                    if (player == null) {
+                        notFound.add(identifier);
+                    } else {
+                        candidates.add(player);
+                    }
+                }
+            } else {
+                candidates = playerIndex.getPlayers();
+            }
+
+            List<PlayerRef> players = new ArrayList<>();
+            List<Transform> transforms = new ArrayList<>();
+            for (PlayerRef player : candidates) {
+                if (worldUuid != null && !worldUuid.equals(player.getWorldUuid())) {
+                    continue;
+                }
+                Transform transform = player.getTransform();
+                if (transform == null) {
+                    continue;
+                }
+                if (center != null) {
+                    Vector3d pos = transform.getPosition();
+                    double dx = pos.getX() - center[0];
+                    double dy = pos.getY() - center[1];
+                    double dz = pos.getZ() - center[2];
+                    if (dx * dx + dy * dy + dz * dz > radiusSquared) {
+                        continue;
+                    }
+                }
+                players.add(player);
+                transforms.add(transform);
+            }
+
+            return McpToolResponse.json(json -> {
+                json.writeStartObject();
+                json.writeNumberField("count", players.size());
+                json.writeArrayFieldStart("players");
+                for (int i = 0; i < players.size(); i++) {
+                    PlayerRef player = players.get(i);
+                    Vector3d pos = transforms.get(i).getPosition();
+                    Vector3f rotation = transforms.get(i).getRotation();
+                    json.writeStartObject();
+                    json.writeStringField("name", player.getUsername());
+                    json.writeStringField("uuid", player.getUuid().toString());
+                    json.writeObjectFieldStart("position");
+                    json.writeNumberField("x", pos.getX());
+                    json.writeNumberField("y", pos.getY());
+                    json.writeNumberField("z", pos.getZ());
+                    json.writeStringField("worldUuid", player.getWorldUuid().toString());
+                    json.writeNumberField("yaw", rotation.getY());
+                    json.writeNumberField("pitch", rotation.getX());
+                    json.writeEndObject();
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+                if (!notFound.isEmpty()) {
+                    json.writeArrayFieldStart("notFound");
+                    for (String identifier : notFound) {
+                        json.writeString(identifier);
+                    }
+                    json.writeEndArray();
+                }
+                json.writeEndObject();
+            });
+        } catch (IllegalArgumentException e) {
+            return McpToolResponse.error(e.getMessage());
+        } catch (Exception e) {
+            logger.atSevere().withCause(e).log("Error getting player positions");
+            return McpToolResponse.error("Failed to get player positions: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean hasPermission(McpAuthManager.AuthLevel authLevel, McpConfig config) {
+        if (authLevel == McpAuthManager.AuthLevel.ADMIN) {
+            return config.getFeatures().getAdmins().canGetPlayerPosition();
+        }
+        if (authLevel == McpAuthManager.AuthLevel.PLAYER) {
+            return config.getFeatures().getPlayers().canGetPlayerPosition();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,122 @@
+package com.top_serveurs.hytale.plugins.mcp.features;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
+import com.top_serveurs.hytale.plugins.mcp.players.PlayerIndex;
+import com.top_serveurs.hytale.plugins.mcp.players.PlayerTrail;
+import com.top_serveurs.hytale.plugins.mcp.players.PlayerTracker;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class GetPlayerTrailFeature implements McpFeature {
+    private static final int DEFAULT_LIMIT = 60;
+
+    private final HytaleLogger logger;
+    private final PlayerIndex playerIndex;
+    private final PlayerTracker playerTracker;
+
+    public GetPlayerTrailFeature(HytaleLogger logger, PlayerIndex playerIndex, PlayerTracker playerTracker) {
+        this.logger = logger;
+        this.playerIndex = playerIndex;
+        this.playerTracker = playerTracker;
+    }
+
+    @Override
+    public String getName() {
+        return "get_player_trail";
+    }
+
+    @Override
+    public McpTool getToolDefinition() {
+        return new McpTool(
+            "get_player_trail",
+            "Gets the recent movement history of a player: positions and rotations sampled at a fixed interval, oldest first",
+            "function"
+        );
+    }
+
+    @Override
+    public String getInputSchema() {
+        return McpToolSchema.schemaWithProperties(
+            Map.of(
+                "player", McpToolSchema.stringProperty("Player name or UUID"),
+                "seconds", McpToolSchema.integerProperty("Only samples from the last N seconds (optional)"),
+                "limit", McpToolSchema.integerProperty("Maximum samples returned, newest kept (optional, default: " + DEFAULT_LIMIT + ")")
+            ),
+            List.of("player")
+        );
+    }
+
+    @Override
+    public McpToolResponse execute(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
+        try {
+            String playerIdentifier = call.getString("player");
+            if (playerIdentifier == null || playerIdentifier.isEmpty()) {
+                return McpToolResponse.error("Missing required parameter: player");
+            }
+
+            PlayerRef player = playerIndex.find(playerIdentifier);
+            if (player == null) {
+                return McpToolResponse.error("Player not found: " + playerIdentifier);
+            }
+
+            Integer seconds = call.getInteger("seconds");
+            Integer limitArg = call.getInteger("limit");
+            int limit = limitArg != null ? Math.max(1, limitArg) : DEFAULT_LIMIT;
+            long since = seconds != null && seconds > 0 ? System.currentTimeMillis() - seconds * 1000L : Long.MIN_VALUE;
+
+            PlayerTrail trail = playerTracker.getTrail(player.getUuid());
+            PlayerTrail.Snapshot samples = trail != null ? trail.snapshot(since, limit) : null;
+            int count = samples != null ? samples.size() : 0;
+
+            return McpToolResponse.json(json -> {
+                json.writeStartObject();
+                json.writeStringField("name", player.getUsername());
+                json.writeStringField("uuid", player.getUuid().toString());
+                json.writeNumberField("intervalMs", playerTracker.getTrailSampleIntervalMs());
+                json.writeNumberField("count", count);
+                json.writeArrayFieldStart("samples");
+                UUID previousWorld = null;
+                for (int i = 0; i < count; i++) {
+                    json.writeStartObject();
+                    json.writeNumberField("time", samples.getTime(i));
+                    json.writeNumberField("x", samples.getX(i));
+                    json.writeNumberField("y", samples.getY(i));
+                    json.writeNumberField("z", samples.getZ(i));
+                    json.writeNumberField("yaw", samples.getYaw(i));
+                    json.writeNumberField("pitch", samples.getPitch(i));
+                    // The world is only repeated when it changes along the trail
+                    UUID world = samples.getWorldUuid(i);
+                    if (world != null && !world.equals(previousWorld)) {
+                        json.writeStringField("worldUuid", world.toString());
+                        previousWorld = world;
+                    }
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+            });
+        } catch (Exception e) {
+            logger.atSevere().withCause(e).log("Error getting player trail");
+            return McpToolResponse.error("Failed to get player trail: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean hasPermission(McpAuthManager.AuthLevel authLevel, McpConfig config) {
+        if (authLevel == McpAuthManager.AuthLevel.ADMIN) {
+            return config.getFeatures().getAdmins().canGetPlayerPosition();
+        }
+        if (authLevel == McpAuthManager.AuthLevel.PLAYER) {
+            return config.getFeatures().getPlayers().canGetPlayerPosition();
+        }
+        return false;
+    }
+}
@@ -1,7 +1,5 @@
 package com.top_serveurs.hytale.plugins.mcp.features;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.HytaleServer;
 import com.hypixel.hytale.common.plugin.PluginIdentifier;
@@ -12,7 +10,6 @@ import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
 
 public class GetServerInfoFeature implements McpFeature {
-    private static final Gson GSON = new Gson();
     private final HytaleLogger logger;
     private final PluginIdentifier pluginId;
 
@@ -43,13 +40,14 @@ public class GetServerInfoFeature implements McpFeature {
     @Override
     public McpToolResponse execute(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
         try {
-            JsonObject response = new JsonObject();
-            response.addProperty("name", pluginId.getName());
-            response.addProperty("version", "1.0.0");
-            response.addProperty("uptime", getUptime());
-            response.addProperty("tps", getTps());
-
-            return McpToolResponse.success(GSON.toJson(response));
+            return McpToolResponse.json(json -> {
+                json.writeStartObject();
+                json.writeStringField("name", pluginId.getName());
+                json.writeStringField("version", "1.0.0");
+                json.writeStringField("uptime", getUptime());
+                json.writeNumberField("tps", getTps());
+                json.writeEndObject();
+            });
         } catch (Exception e) {
             logger.atSevere().withCause(e).log("Error getting server info");
             return McpToolResponse.error("Failed to get server info: " + e.getMessage());
@@ -1,7 +1,5 @@
 package com.top_serveurs.hytale.plugins.mcp.features;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
@@ -15,9 +13,8 @@ import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
-public class GetWorldInfoFeature implements McpFeature {
+public class GetWorldInfoFeature implements AsyncMcpFeature {
 
-    private static final Gson GSON = new Gson();
     private final HytaleLogger logger;
 
     public GetWorldInfoFeature(HytaleLogger logger) {
@@ -49,36 +46,37 @@ public class GetWorldInfoFeature implements McpFeature {
     }
 
     @Override
-    public McpToolResponse execute(McpToolCall call, AuthLevel authLevel) {
-        String worldUuidStr = getArgumentAsString(call, "world");
+    public CompletableFuture<McpToolResponse> executeAsync(McpToolCall call, AuthLevel authLevel) {
+        String worldUuidStr = call.getString("world");
 
         if (worldUuidStr == null) {
-            return McpToolResponse.error("world UUID is required");
+            return CompletableFuture.completedFuture(McpToolResponse.error("world UUID is required"));
         }
 
         UUID worldUuid;
         try {
             worldUuid = UUID.fromString(worldUuidStr);
         } catch (IllegalArgumentException e) {
-            return McpToolResponse.error("Invalid world UUID");
+            return CompletableFuture.completedFuture(McpToolResponse.error("Invalid world UUID"));
         }
 
         World world = Universe.get().getWorld(worldUuid);
         if (world == null) {
-            return McpToolResponse.error("World not found: " + worldUuidStr);
+            return CompletableFuture.completedFuture(McpToolResponse.error("World not found: " + worldUuidStr));
         }
 
         CompletableFuture<McpToolResponse> future = new CompletableFuture<>();
 
         world.execute(() -> {
             try {
-                JsonObject response = new JsonObject();
-                response.addProperty("uuid", worldUuidStr);
-                response.addProperty("loaded", true);
-
                 logger.atInfo().log("[GET_WORLD_INFO] Retrieved info for world: " + worldUuidStr);
 
-                future.complete(McpToolResponse.success(GSON.toJson(response)));
+                future.complete(McpToolResponse.json(json -> {
+                    json.writeStartObject();
+                    json.writeStringField("uuid", worldUuidStr);
+                    json.writeBooleanField("loaded", true);
+                    json.writeEndObject();
+                }));
 
             } catch (Throwable t) {
                 logger.atSevere().withCause(t).log("[GET_WORLD_INFO] Exception");
@@ -86,7 +84,7 @@ public class GetWorldInfoFeature implements McpFeature {
             }
         });
 
-        return future.join();
+        return future;
     }
 
     @Override
@@ -99,9 +97,4 @@ public class GetWorldInfoFeature implements McpFeature {
         }
         return false;
     }
-
-    private String getArgumentAsString(McpToolCall call, String key) {
-        Object value = call.getArguments().get(key);
-        return value != null ? value.toString() : null;
-    }
 }
@@ -1,11 +1,10 @@
 package com.top_serveurs.hytale.plugins.mcp.features;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.HytaleServer;
 import com.hypixel.hytale.server.core.command.system.CommandManager;
 import com.hypixel.hytale.server.core.console.ConsoleSender;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
@@ -13,16 +12,18 @@ import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
 import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
+import com.top_serveurs.hytale.plugins.mcp.players.PlayerIndex;
 
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
-public class GiveItemFeature implements McpFeature {
-    private static final Gson GSON = new Gson();
+public class GiveItemFeature implements AsyncMcpFeature {
     private final HytaleLogger logger;
+    private final PlayerIndex playerIndex;
 
-    public GiveItemFeature(HytaleLogger logger, McpConfig config) {
+    public GiveItemFeature(HytaleLogger logger, McpConfig config, PlayerIndex playerIndex) {
         this.logger = logger;
+        this.playerIndex = playerIndex;
     }
 
     @Override
@@ -43,7 +44,7 @@ public class GiveItemFeature implements McpFeature {
     public String getInputSchema() {
         return McpToolSchema.schemaWithProperties(
             java.util.Map.of(
-                "player", McpToolSchema.stringProperty("Player name to give the item to"),
+                "player", McpToolSchema.stringProperty("Player name or UUID to give the item to"),
                 "itemId", McpToolSchema.stringProperty("Item ID (e.g., 'Ingredient_Stick', 'Tool_Fertilizer')"),
                 "quantity", McpToolSchema.integerProperty("Quantity to give (optional, default: 1)")
             ),
@@ -52,20 +53,26 @@ public class GiveItemFeature implements McpFeature {
     }
 
     @Override
-    public McpToolResponse execute(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
+    public CompletableFuture<McpToolResponse> executeAsync(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
         try {
-            String player = getArgumentAsString(call, "player");
-            String itemId = getArgumentAsString(call, "itemId");
-            Integer quantity = getArgumentAsInteger(call, "quantity");
+            String playerIdentifier = call.getString("player");
+            String itemId = call.getString("itemId");
+            Integer quantity = call.getInteger("quantity");
 
             // Validation
-            if (player == null || player.isEmpty()) {
-                return McpToolResponse.error("Player name is required");
+            if (playerIdentifier == null || playerIdentifier.isEmpty()) {
+                return CompletableFuture.completedFuture(McpToolResponse.error("Player name is required"));
             }
             if (itemId == null || itemId.isEmpty()) {
-                return McpToolResponse.error("Item ID is required");
+                return CompletableFuture.completedFuture(McpToolResponse.error("Item ID is required"));
             }
 
+            PlayerRef target = playerIndex.find(playerIdentifier);
+            if (target == null) {
+                return CompletableFuture.completedFuture(McpToolResponse.error("Player not found: " + playerIdentifier));
+            }
+            String player = target.getUsername();
+
             // default
             if (quantity == null || quantity < 1) {
                 quantity = 1;
@@ -77,7 +84,7 @@ public class GiveItemFeature implements McpFeature {
             // Get first world available
             Map<String, World> worlds = Universe.get().getWorlds();
             if (worlds.isEmpty()) {
-                return McpToolResponse.error("No world available to execute command");
+                return CompletableFuture.completedFuture(McpToolResponse.error("No world available to execute command"));
             }
 
             World world = worlds.values().iterator().next();
@@ -92,14 +99,15 @@ public class GiveItemFeature implements McpFeature {
                     logger.atInfo().log("[GIVE_ITEM] Executing: " + finalCommand);
                     commandManager.handleCommand(ConsoleSender.INSTANCE, finalCommand);
 
-                    JsonObject response = new JsonObject();
-                    response.addProperty("player", player);
-                    response.addProperty("itemId", itemId);
-                    response.addProperty("quantity", finalQuantity);
-                    response.addProperty("command", finalCommand);
-                    response.addProperty("status", "executed");
-
-                    future.complete(McpToolResponse.success(GSON.toJson(response)));
+                    future.complete(McpToolResponse.json(json -> {
+                        json.writeStartObject();
+                        json.writeStringField("player", player);
+                        json.writeStringField("itemId", itemId);
+                        json.writeNumberField("quantity", finalQuantity);
+                        json.writeStringField("command", finalCommand);
+                        json.writeStringField("status", "executed");
+                        json.writeEndObject();
+                    }));
 
                 } catch (Throwable t) {
                     logger.atSevere().withCause(t).log("[GIVE_ITEM] Exception");
@@ -107,11 +115,11 @@ public class GiveItemFeature implements McpFeature {
                 }
             });
 
-            return future.join();
+            return future;
 
         } catch (Exception e) {
             logger.atSevere().withCause(e).log("Error giving item");
-            return McpToolResponse.error("Failed to give item: " + e.getMessage());
+            return CompletableFuture.completedFuture(McpToolResponse.error("Failed to give item: " + e.getMessage()));
         }
     }
 
@@ -125,24 +133,4 @@ public class GiveItemFeature implements McpFeature {
         }
         return false;
     }
-
-    private String getArgumentAsString(McpToolCall call, String key) {
-        Object value = call.getArguments().get(key);
-        return value != null ? value.toString() : null;
-    }
-
-    private Integer getArgumentAsInteger(McpToolCall call, String key) {
-        Object value = call.getArguments().get(key);
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof Number) {
-            return ((Number) value).intValue();
-        }
-        try {
-            return Integer.parseInt(value.toString());
-        } catch (NumberFormatException e) {
-            return null;
-        }
-    }
 }
@@ -1,32 +1,30 @@
 package com.top_serveurs.hytale.plugins.mcp.features;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
 import com.hypixel.hytale.logger.HytaleLogger;
-import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
 import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager.AuthLevel;
+import com.top_serveurs.hytale.plugins.mcp.blocks.BlockCatalog;
+import com.top_serveurs.hytale.plugins.mcp.blocks.BlockIndex;
+import com.top_serveurs.hytale.plugins.mcp.blocks.CategorizedBlock;
 import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
 import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 public class ListBlocksFeature implements McpFeature {
 
-    private static final Gson GSON = new Gson();
-    private final HytaleLogger logger;
+    private static final int RESPONSE_CACHE_SIZE = 256;
 
-    // Cache for store all blocks by category
-    private static volatile Map<String, CategorizedBlock> blocksCache = null;
-    private static final Object CACHE_LOCK = new Object();
+    private final HytaleLogger logger;
+    private final BlockCatalog catalog;
+    private volatile BlocksCache blocksCache = null;
 
-    public ListBlocksFeature(HytaleLogger logger) {
+    public ListBlocksFeature(HytaleLogger logger, BlockCatalog catalog) {
         this.logger = logger;
+        this.catalog = catalog;
     }
 
     @Override
@@ -48,8 +46,10 @@ public class ListBlocksFeature implements McpFeature {
         return McpToolSchema.schemaWithProperties(
             java.util.Map.of(
                 "limit", McpToolSchema.integerProperty("Maximum number of blocks to return (optional)"),
+                "offset", McpToolSchema.integerProperty("Number of matching blocks to skip (optional, default: 0)"),
+                "cursor", McpToolSchema.stringProperty("nextCursor from a previous response, to continue after its last block (optional, takes precedence over offset)"),
                 "search", McpToolSchema.stringProperty("Search term to filter blocks by name (optional, case-insensitive)"),
-                "category", McpToolSchema.stringProperty("Category to filter blocks (optional). Available categories: building, decoration, nature, ore, stone, wood, metal, glass, food, tool, weapon, misc")
+                "category", McpToolSchema.stringProperty("Category to filter blocks (optional). Available categories: " + String.join(", ", getAvailableCategories()))
             ),
             java.util.List.of()
         );
@@ -58,56 +58,97 @@ public class ListBlocksFeature implements McpFeature {
     @Override
     public McpToolResponse execute(McpToolCall call, AuthLevel authLevel) {
         try {
-            ensureCacheInitialized();
-
-            Integer limit = getArgumentAsInteger(call, "limit");
-            String search = getArgumentAsString(call, "search");
-            String category = getArgumentAsString(call, "category");
+            Integer limit = call.getInteger("limit");
+            Integer offset = call.getInteger("offset");
+            String cursor = call.getString("cursor");
+            String search = call.getString("search");
+            String category = call.getString("category");
 
             if (category != null && !category.isEmpty() && !isValidCategory(category)) {
                 return McpToolResponse.error("Invalid category. Available categories: " + String.join(", ", getAvailableCategories()));
             }
 
-            List<CategorizedBlock> filteredBlocks = filterBlocks(search, category);
-
-            if (limit != null && limit > 0 && limit < filteredBlocks.size()) {
-                filteredBlocks = filteredBlocks.subList(0, limit);
+            if (offset != null && offset < 0) {
+                return McpToolResponse.error("offset must not be negative");
             }
 
-            JsonArray blocksArray = new JsonArray();
-            for (CategorizedBlock block : filteredBlocks) {
-                JsonObject blockObj = new JsonObject();
-                blockObj.addProperty("name", block.name);
-                blockObj.addProperty("id", block.id);
-                blockObj.addProperty("category", block.category);
-                blocksArray.add(blockObj);
+            String after = null;
+            if (cursor != null && !cursor.isEmpty()) {
+                try {
+                    after = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                } catch (IllegalArgumentException e) {
+                    return McpToolResponse.error("Invalid cursor");
+                }
             }
 
-            Map<String, Long> categoryStats = getCategoryStatistics();
-
-            JsonObject response = new JsonObject();
-            response.addProperty("total", blocksCache.size());
-            response.addProperty("returned", filteredBlocks.size());
-            response.add("blocks", blocksArray);
-
-            JsonObject stats = new JsonObject();
-            for (Map.Entry<String, Long> entry : categoryStats.entrySet()) {
-                stats.addProperty(entry.getKey(), entry.getValue());
+            BlocksCache cache = currentCache();
+            ResponseKey key = new ResponseKey(search, category, limit, offset, cursor);
+            McpToolResponse cached = cache.responses.get(key);
+            if (cached != null) {
+                return cached;
             }
-            response.add("categoryStats", stats);
 
-            if (search != null && !search.isEmpty()) {
-                response.addProperty("searchTerm", search);
-            }
-            if (category != null && !category.isEmpty()) {
-                response.addProperty("filterCategory", category);
+            BlockIndex index = cache.index;
+            int[] matches = index.search(search, category);
+
+            int start;
+            if (after != null) {
+                // Matches are ascending positions, so the insertion point is the first match after the cursor
+                int found = Arrays.binarySearch(matches, index.positionAfter(after));
+                start = found >= 0 ? found : -found - 1;
+            } else {
+                start = offset != null ? Math.min(offset, matches.length) : 0;
             }
+            int end = limit != null && limit > 0 && limit < matches.length - start ? start + limit : matches.length;
+            int returned = end - start;
+            String nextCursor = end < matches.length
+                ? Base64.getUrlEncoder().withoutPadding().encodeToString(index.get(matches[end - 1]).getName().getBytes(StandardCharsets.UTF_8))
+                : null;
 
-            logger.atInfo().log("[LIST_BLOCKS] Returned " + filteredBlocks.size() + " blocks" +
+            logger.atInfo().log("[LIST_BLOCKS] Returned " + returned + " blocks" +
                 (search != null ? " (search: " + search + ")" : "") +
                 (category != null ? " (category: " + category + ")" : ""));
 
-            return McpToolResponse.success(GSON.toJson(response));
+            McpToolResponse response = McpToolResponse.json(json -> {
+                json.writeStartObject();
+                json.writeNumberField("total", index.size());
+                json.writeNumberField("matched", matches.length);
+                json.writeNumberField("offset", start);
+                json.writeNumberField("returned", returned);
+                if (nextCursor != null) {
+                    json.writeStringField("nextCursor", nextCursor);
+                }
+
+                json.writeArrayFieldStart("blocks");
+                for (int i = start; i < end; i++) {
+                    CategorizedBlock block = index.get(matches[i]);
+                    json.writeStartObject();
+                    json.writeStringField("name", block.getName());
+                    json.writeNumberField("id", block.getId());
+                    json.writeStringField("category", block.getCategory());
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+
+                json.writeObjectFieldStart("categoryStats");
+                for (Map.Entry<String, Integer> entry : index.getCategoryStats().entrySet()) {
+                    json.writeNumberField(entry.getKey(), entry.getValue());
+                }
+                json.writeEndObject();
+
+                if (search != null && !search.isEmpty()) {
+                    json.writeStringField("searchTerm", search);
+                }
+                if (category != null && !category.isEmpty()) {
+                    json.writeStringField("filterCategory", category);
+                }
+                json.writeEndObject();
+            });
+
+            if (!response.isError()) {
+                cache.responses.put(key, response);
+            }
+            return response;
 
         } catch (Exception e) {
             logger.atSevere().withCause(e).log("Error listing blocks");
@@ -126,191 +167,47 @@ public class ListBlocksFeature implements McpFeature {
         return false;
     }
 
-    private void ensureCacheInitialized() {
-        if (blocksCache == null) {
-            synchronized (CACHE_LOCK) {
-                if (blocksCache == null) {
-                    logger.atInfo().log("[LIST_BLOCKS] Initializing blocks cache...");
-                    long startTime = System.currentTimeMillis();
-                    blocksCache = buildBlocksCache();
-                    long duration = System.currentTimeMillis() - startTime;
-                    logger.atInfo().log("[LIST_BLOCKS] Cache initialized with " + blocksCache.size() + " blocks in " + duration + "ms");
-                }
-            }
-        }
-    }
-
-    private Map<String, CategorizedBlock> buildBlocksCache() {
-        Map<String, CategorizedBlock> cache = new ConcurrentHashMap<>();
-
-        int maxBlockId = 10000;
-        for (int id = 0; id < maxBlockId; id++) {
-            try {
-                BlockType blockType = BlockType.getAssetMap().getAsset(id);
-                if (blockType != null && blockType != BlockType.EMPTY) {
-                    String blockName = blockType.getId();
-                    if (blockName != null && !blockName.isEmpty()) {
-                        String category = categorizeBlock(blockName);
-                        CategorizedBlock block = new CategorizedBlock(blockName, id, category);
-                        cache.put(blockName, block);
-                    }
-                }
-            } catch (Exception e) {
-                // Ignore errors for invalid IDs
-            }
+    private BlocksCache currentCache() {
+        BlockIndex index = catalog.getIndex();
+        BlocksCache cache = blocksCache;
+        if (cache == null || cache.index != index) {
+            cache = new BlocksCache(index);
+            blocksCache = cache;
         }
-
         return cache;
     }
 
-    private String categorizeBlock(String blockName) {
-        String lowerName = blockName.toLowerCase();
-
-        // building blocks
-        if (lowerName.contains("brick") || lowerName.contains("concrete") || lowerName.contains("cement") ||
-            lowerName.contains("plaster") || lowerName.contains("tile") || lowerName.contains("slab") ||
-            lowerName.contains("stair") || lowerName.contains("wall") || lowerName.contains("fence")) {
-            return "building";
-        }
-
-        // Ores and minerals
-        if (lowerName.contains("ore") || lowerName.contains("vein") || lowerName.contains("deposit")) {
-            return "ore";
-        }
-
-        // Stones
-        if (lowerName.contains("stone") || lowerName.contains("rock") || lowerName.contains("cobble") ||
-            lowerName.contains("granite") || lowerName.contains("marble") || lowerName.contains("slate") ||
-            lowerName.contains("limestone") || lowerName.contains("sandstone")) {
-            return "stone";
-        }
-
-        // Wood
-        if (lowerName.contains("wood") || lowerName.contains("log") || lowerName.contains("plank") ||
-            lowerName.contains("lumber") || lowerName.contains("timber")) {
-            return "wood";
-        }
-
-        // Metal
-        if (lowerName.contains("iron") || lowerName.contains("steel") || lowerName.contains("copper") ||
-            lowerName.contains("bronze") || lowerName.contains("gold") || lowerName.contains("silver") ||
-            lowerName.contains("metal") || lowerName.contains("ingot")) {
-            return "metal";
-        }
-
-        // Glass
-        if (lowerName.contains("glass") || lowerName.contains("pane") || lowerName.contains("window")) {
-            return "glass";
-        }
-
-        // Nature
-        if (lowerName.contains("grass") || lowerName.contains("dirt") || lowerName.contains("soil") ||
-            lowerName.contains("sand") || lowerName.contains("gravel") || lowerName.contains("clay") ||
-            lowerName.contains("leaf") || lowerName.contains("leaves") || lowerName.contains("flower") ||
-            lowerName.contains("plant") || lowerName.contains("tree") || lowerName.contains("bush") ||
-            lowerName.contains("vine") || lowerName.contains("moss") || lowerName.contains("mushroom")) {
-            return "nature";
-        }
-
-        // Decoration
-        if (lowerName.contains("carpet") || lowerName.contains("rug") || lowerName.contains("banner") ||
-            lowerName.contains("painting") || lowerName.contains("frame") || lowerName.contains("pot") ||
-            lowerName.contains("vase") || lowerName.contains("decoration") || lowerName.contains("ornament") ||
-            lowerName.contains("lamp") || lowerName.contains("lantern") || lowerName.contains("torch") ||
-            lowerName.contains("candle") || lowerName.contains("chandelier")) {
-            return "decoration";
-        }
-
-        // Food
-        if (lowerName.contains("food") || lowerName.contains("bread") || lowerName.contains("meat") ||
-            lowerName.contains("fish") || lowerName.contains("fruit") || lowerName.contains("vegetable") ||
-            lowerName.contains("berry") || lowerName.contains("apple") || lowerName.contains("carrot") ||
-            lowerName.contains("potato") || lowerName.contains("wheat") || lowerName.contains("crop")) {
-            return "food";
-        }
-
-        // Tools
-        if (lowerName.contains("pickaxe") || lowerName.contains("axe") || lowerName.contains("shovel") ||
-            lowerName.contains("hoe") || lowerName.contains("hammer") || lowerName.contains("saw") ||
-            lowerName.contains("tool")) {
-            return "tool";
-        }
-
-        // Weapons
-        if (lowerName.contains("sword") || lowerName.contains("bow") || lowerName.contains("arrow") ||
-            lowerName.contains("spear") || lowerName.contains("dagger") || lowerName.contains("weapon") ||
-            lowerName.contains("blade")) {
-            return "weapon";
-        }
-
-        // Default: misc
-        return "misc";
-    }
-
-    private List<CategorizedBlock> filterBlocks(String search, String category) {
-        return blocksCache.values().stream()
-            .filter(block -> {
-                if (search != null && !search.isEmpty()) {
-                    return block.name.toLowerCase().contains(search.toLowerCase());
-                }
-                return true;
-            })
-            .filter(block -> {
-                if (category != null && !category.isEmpty()) {
-                    return block.category.equalsIgnoreCase(category);
-                }
-                return true;
-            })
-            .sorted(Comparator.comparing(block -> block.name))
-            .collect(Collectors.toList());
-    }
-
-    private Map<String, Long> getCategoryStatistics() {
-        return blocksCache.values().stream()
-            .collect(Collectors.groupingBy(
-                block -> block.category,
-                Collectors.counting()
-            ));
-    }
-
     private boolean isValidCategory(String category) {
         return getAvailableCategories().contains(category.toLowerCase());
     }
 
     private Set<String> getAvailableCategories() {
-        return Set.of("building", "decoration", "nature", "ore", "stone", "wood",
-                     "metal", "glass", "food", "tool", "weapon", "misc");
-    }
-
-    private String getArgumentAsString(McpToolCall call, String key) {
-        Object value = call.getArguments().get(key);
-        return value != null ? value.toString() : null;
-    }
-
-    private Integer getArgumentAsInteger(McpToolCall call, String key) {
-        Object value = call.getArguments().get(key);
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof Number) {
-            return ((Number) value).intValue();
-        }
-        try {
-            return Integer.parseInt(value.toString());
-        } catch (NumberFormatException e) {
-            return null;
+        return catalog.getCategorizer().getCategories();
+    }
+
+    /**
+     * The block index together with the responses served from it. A new catalog index replaces both at
+     * once, so a cached response never outlives the index it was built from.
+     */
+    private static class BlocksCache {
+        final BlockIndex index;
+        final Map<ResponseKey, McpToolResponse> responses;
+
+        BlocksCache(BlockIndex index) {
+            this.index = index;
+            this.responses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ResponseKey, McpToolResponse> eldest) {
+                    return size() > RESPONSE_CACHE_SIZE;
+                }
+            });
         }
     }
 
-    private static class CategorizedBlock {
-        final String name;
-        final int id;
-        final String category;
-
-        CategorizedBlock(String name, int id, String category) {
-            this.name = name;
-            this.id = id;
-            this.category = category;
-        }
+    /**
+     * Arguments a cached response was built for. Absent arguments stay null, so they never match a
+     * caller passing the literal text "null".
+     */
+    record ResponseKey(String search, String category, Integer limit, Integer offset, String cursor) {
     }
 }
@@ -1,25 +1,27 @@
 package com.top_serveurs.hytale.plugins.mcp.features;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.Universe;
 import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
 import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
 import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
+import com.top_serveurs.hytale.plugins.mcp.players.PlayerIndex;
+import com.top_serveurs.hytale.plugins.mcp.players.RosterLog;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 public class ListPlayersFeature implements McpFeature {
-    private static final Gson GSON = new Gson();
     private final HytaleLogger logger;
+    private final PlayerIndex playerIndex;
 
-    public ListPlayersFeature(HytaleLogger logger) {
+    public ListPlayersFeature(HytaleLogger logger, PlayerIndex playerIndex) {
         this.logger = logger;
+        this.playerIndex = playerIndex;
     }
 
     @Override
@@ -31,40 +33,80 @@ public class ListPlayersFeature implements McpFeature {
     public McpTool getToolDefinition() {
         return new McpTool(
             "list_players",
-            "Lists all currently connected players on the server",
+            "Lists all currently connected players on the server. Pass the version from a previous response as sinceVersion to get only the players who joined or left since",
             "function"
         );
     }
 
     @Override
     public String getInputSchema() {
-        return McpToolSchema.emptyObjectSchema();
+        return McpToolSchema.schemaWithProperties(
+            Map.of(
+                "sinceVersion", McpToolSchema.integerProperty("Roster version from a previous call (optional)")
+            ),
+            List.of()
+        );
     }
 
     @Override
     public McpToolResponse execute(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
         try {
-            List<PlayerRef> players = Universe.get().getPlayers();
-            JsonArray playerArray = new JsonArray();
-
-            for (PlayerRef player : players) {
-                JsonObject playerObj = new JsonObject();
-                playerObj.addProperty("uuid", player.getUuid().toString());
-                playerObj.addProperty("name", player.getUsername());
-                playerArray.add(playerObj);
+            Object sinceArg = call.getArguments().get("sinceVersion");
+            if (sinceArg != null) {
+                long sinceVersion;
+                try {
+                    sinceVersion = sinceArg instanceof Number ? ((Number) sinceArg).longValue() : Long.parseLong(sinceArg.toString());
+                } catch (NumberFormatException e) {
+                    return McpToolResponse.error("sinceVersion must be an integer");
+                }
+                RosterLog.Delta delta = playerIndex.changesSince(sinceVersion);
+                if (delta != null) {
+                    return McpToolResponse.json(json -> {
+                        json.writeStartObject();
+                        json.writeNumberField("version", delta.getVersion());
+                        json.writeBooleanField("full", false);
+                        writeChanges(json, "joined", delta.getJoined());
+                        writeChanges(json, "left", delta.getLeft());
+                        json.writeEndObject();
+                    });
+                }
             }
 
-            JsonObject response = new JsonObject();
-            response.addProperty("count", players.size());
-            response.add("players", playerArray);
+            PlayerIndex.Roster roster = playerIndex.getRoster();
+            List<PlayerRef> players = roster.getPlayers();
 
-            return McpToolResponse.success(GSON.toJson(response));
+            return McpToolResponse.json(json -> {
+                json.writeStartObject();
+                json.writeNumberField("version", roster.getVersion());
+                json.writeBooleanField("full", true);
+                json.writeNumberField("count", players.size());
+                json.writeArrayFieldStart("players");
+                for (PlayerRef player : players) {
+                    json.writeStartObject();
+                    json.writeStringField("uuid", player.getUuid().toString());
+                    json.writeStringField("name", player.getUsername());
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+            });
         } catch (Exception e) {
             logger.atSevere().withCause(e).log("Error listing players");
             return McpToolResponse.error("Failed to list players: " + e.getMessage());
         }
     }
 
+    private static void writeChanges(JsonGenerator json, String field, List<RosterLog.Change> changes) throws IOException {
+        json.writeArrayFieldStart(field);
+        for (RosterLog.Change change : changes) {
+            json.writeStartObject();
+            json.writeStringField("uuid", change.getUuid().toString());
+            json.writeStringField("name", change.getName());
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+    }
+
     @Override
     public boolean hasPermission(McpAuthManager.AuthLevel authLevel, McpConfig config) {
         if (authLevel == McpAuthManager.AuthLevel.ADMIN) {
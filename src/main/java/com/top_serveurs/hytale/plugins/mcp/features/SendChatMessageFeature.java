@@ -1,7 +1,5 @@
 package com.top_serveurs.hytale.plugins.mcp.features;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
 import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager.AuthLevel;
@@ -12,7 +10,6 @@ import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
 
 public class SendChatMessageFeature implements McpFeature {
 
-    private static final Gson GSON = new Gson();
     private final HytaleLogger logger;
 
     public SendChatMessageFeature(HytaleLogger logger) {
@@ -45,19 +42,20 @@ public class SendChatMessageFeature implements McpFeature {
 
     @Override
     public McpToolResponse execute(McpToolCall call, AuthLevel authLevel) {
-        String message = getArgumentAsString(call, "message");
+        String message = call.getString("message");
 
         if (message == null || message.isEmpty()) {
             return McpToolResponse.error("message is required");
         }
 
-        JsonObject response = new JsonObject();
-        response.addProperty("message", message);
-        response.addProperty("sent", true);
-
         logger.atInfo().log("[SEND_CHAT_MESSAGE] Message: " + message);
 
-        return McpToolResponse.success(GSON.toJson(response));
+        return McpToolResponse.json(json -> {
+            json.writeStartObject();
+            json.writeStringField("message", message);
+            json.writeBooleanField("sent", true);
+            json.writeEndObject();
+        });
     }
 
     @Override
@@ -70,9 +68,4 @@ public class SendChatMessageFeature implements McpFeature {
         }
         return false;
     }
-
-    private String getArgumentAsString(McpToolCall call, String key) {
-        Object value = call.getArguments().get(key);
-        return value != null ? value.toString() : null;
-    }
 }
@@ -1,7 +1,5 @@
 package com.top_serveurs.hytale.plugins.mcp.features;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.universe.Universe;
@@ -12,17 +10,19 @@ import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
 import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
+import com.top_serveurs.hytale.plugins.mcp.world.BlockPalette;
 
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
-public class SetBlockFeature implements McpFeature {
+public class SetBlockFeature implements AsyncMcpFeature {
 
-    private static final Gson GSON = new Gson();
     private final HytaleLogger logger;
+    private final BlockPalette blockPalette;
 
-    public SetBlockFeature(HytaleLogger logger) {
+    public SetBlockFeature(HytaleLogger logger, BlockPalette blockPalette) {
         this.logger = logger;
+        this.blockPalette = blockPalette;
     }
 
     @Override
@@ -54,41 +54,41 @@ public class SetBlockFeature implements McpFeature {
     }
 
     @Override
-    public McpToolResponse execute(McpToolCall call, AuthLevel authLevel) {
+    public CompletableFuture<McpToolResponse> executeAsync(McpToolCall call, AuthLevel authLevel) {
 
-        int x = getArgumentAsInt(call, "x");
-        int y = getArgumentAsInt(call, "y");
-        int z = getArgumentAsInt(call, "z");
-        String blockTypeStr = getArgumentAsString(call, "blockType");
-        String worldUuidStr = getArgumentAsString(call, "world");
+        Integer x = call.getInteger("x");
+        Integer y = call.getInteger("y");
+        Integer z = call.getInteger("z");
+        String blockTypeStr = call.getString("blockType");
+        String worldUuidStr = call.getString("world");
 
-        if (x == Integer.MIN_VALUE || y == Integer.MIN_VALUE || z == Integer.MIN_VALUE) {
-            return McpToolResponse.error("x, y and z are required integers");
+        if (x == null || y == null || z == null) {
+            return CompletableFuture.completedFuture(McpToolResponse.error("x, y and z are required integers"));
         }
 
         if (blockTypeStr == null || blockTypeStr.isEmpty()) {
-            return McpToolResponse.error("blockType is required");
+            return CompletableFuture.completedFuture(McpToolResponse.error("blockType is required"));
         }
 
         if (worldUuidStr == null) {
-            return McpToolResponse.error("world UUID is required");
+            return CompletableFuture.completedFuture(McpToolResponse.error("world UUID is required"));
         }
 
-        BlockType blockType = BlockType.getAssetMap().getAsset(blockTypeStr);
-        if (blockType == null || blockType == BlockType.EMPTY) {
-            return McpToolResponse.error("Unknown block type: " + blockTypeStr);
+        BlockType blockType = blockPalette.resolve(blockTypeStr);
+        if (blockType == null) {
+            return CompletableFuture.completedFuture(McpToolResponse.error("Unknown block type: " + blockTypeStr));
         }
 
         UUID worldUuid;
         try {
             worldUuid = UUID.fromString(worldUuidStr);
         } catch (IllegalArgumentException e) {
-            return McpToolResponse.error("Invalid world UUID");
+            return CompletableFuture.completedFuture(McpToolResponse.error("Invalid world UUID"));
         }
 
         World world = Universe.get().getWorld(worldUuid);
         if (world == null) {
-            return McpToolResponse.error("World not found: " + worldUuidStr);
+            return CompletableFuture.completedFuture(McpToolResponse.error("World not found: " + worldUuidStr));
         }
 
         CompletableFuture<McpToolResponse> future = new CompletableFuture<>();
@@ -107,13 +107,14 @@ public class SetBlockFeature implements McpFeature {
                         0
                 );
 
-                JsonObject json = new JsonObject();
-                json.addProperty("x", x);
-                json.addProperty("y", y);
-                json.addProperty("z", z);
-                json.addProperty("blockType", blockTypeStr);
-
-                future.complete(McpToolResponse.success(GSON.toJson(json)));
+                future.complete(McpToolResponse.json(json -> {
+                    json.writeStartObject();
+                    json.writeNumberField("x", x);
+                    json.writeNumberField("y", y);
+                    json.writeNumberField("z", z);
+                    json.writeStringField("blockType", blockTypeStr);
+                    json.writeEndObject();
+                }));
 
             } catch (Throwable t) {
                 logger.atSevere().withCause(t).log("[SET_BLOCK] Exception");
@@ -121,7 +122,7 @@ public class SetBlockFeature implements McpFeature {
             }
         });
 
-        return future.join();
+        return future;
     }
 
     @Override
@@ -134,20 +135,4 @@ public class SetBlockFeature implements McpFeature {
         }
         return false;
     }
-
-    private int getArgumentAsInt(McpToolCall call, String key) {
-        try {
-            Object value = call.getArguments().get(key);
-            if (value == null) return Integer.MIN_VALUE;
-            if (value instanceof Number) return ((Number) value).intValue();
-            return Integer.parseInt(value.toString());
-        } catch (Exception e) {
-            return Integer.MIN_VALUE;
-        }
-    }
-
-    private String getArgumentAsString(McpToolCall call, String key) {
-        Object value = call.getArguments().get(key);
-        return value != null ? value.toString() : null;
-    }
 }
@@ -1,11 +1,6 @@
 package com.top_serveurs.hytale.plugins.mcp.features;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.hypixel.hytale.logger.HytaleLogger;
-import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
@@ -14,20 +9,37 @@ import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
 import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
 import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
-
+import com.top_serveurs.hytale.plugins.mcp.world.BlockBatch;
+import com.top_serveurs.hytale.plugins.mcp.world.BlockPalette;
+import com.top_serveurs.hytale.plugins.mcp.world.BlockPayloadDecoder;
+import com.top_serveurs.hytale.plugins.mcp.world.BlockPlacementPlanner;
+import com.top_serveurs.hytale.plugins.mcp.world.SetBlocksJob;
+import com.top_serveurs.hytale.plugins.mcp.world.WorldWriteScheduler;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
-public class SetBlocksBatchFeature implements McpFeature {
+public class SetBlocksBatchFeature implements AsyncMcpFeature {
 
-    private static final Gson GSON = new Gson();
+    private static final String ORDER_CHUNK = "chunk";
+    private static final String ORDER_ORIGINAL = "original";
+    private static final String RESPONSE_FULL = "full";
+    private static final String RESPONSE_SUMMARY = "summary";
+    private static final String RESPONSE_BITMAP = "bitmap";
     private final HytaleLogger logger;
     private final McpConfig config;
+    private final WorldWriteScheduler writeScheduler;
+    private final BlockPalette blockPalette;
 
-    public SetBlocksBatchFeature(HytaleLogger logger, McpConfig config) {
+    public SetBlocksBatchFeature(HytaleLogger logger, McpConfig config, WorldWriteScheduler writeScheduler, BlockPalette blockPalette) {
         this.logger = logger;
         this.config = config;
+        this.writeScheduler = writeScheduler;
+        this.blockPalette = blockPalette;
     }
 
     @Override
@@ -60,135 +72,145 @@ public class SetBlocksBatchFeature implements McpFeature {
         return McpToolSchema.schemaWithProperties(
             java.util.Map.of(
                 "world", McpToolSchema.stringProperty("World UUID"),
-                "blocks", McpToolSchema.arrayProperty(blockSchema, "List of blocks to place (max " + config.getFeatures().getMaxBlocksBatch() + ")")
+                "blocks", McpToolSchema.arrayProperty(blockSchema, "List of blocks to place (max " + config.getFeatures().getMaxBlocksBatch() + "). Omit when using palette + packed"),
+                "palette", McpToolSchema.arrayProperty(McpToolSchema.stringProperty(null), "Compact encoding: distinct block type identifiers referenced by index from packed"),
+                "packed", McpToolSchema.stringProperty("Compact encoding: base64 of 16-byte big-endian records (int32 x, int32 y, int32 z, uint16 palette index, uint16 run length). Each record places run length identical blocks along axis. Up to " + config.getFeatures().getMaxBlocksBatch() + " records expanding to at most " + config.getFeatures().getMaxPackedBlocksBatch() + " blocks"),
+                "axis", McpToolSchema.stringProperty("Compact encoding: axis runs extend along, x, y or z (optional, default: x)"),
+                "order", McpToolSchema.stringProperty("Placement order (optional): 'chunk' groups blocks by chunk and places them bottom-up (default), 'original' keeps the given order"),
+                "response", McpToolSchema.stringProperty("Response detail (optional): 'full' lists every block (default), 'summary' returns counts and failed blocks only, 'bitmap' returns counts and a base64 bitmap of failed indices")
             ),
-            java.util.List.of("world", "blocks")
+            java.util.List.of("world")
         );
     }
 
     @Override
-    public McpToolResponse execute(McpToolCall call, AuthLevel authLevel) {
-        Object blocksObj = call.getArguments().get("blocks");
-        String worldUuidStr = getArgumentAsString(call, "world");
+    public CompletableFuture<McpToolResponse> executeAsync(McpToolCall call, AuthLevel authLevel) {
+        String worldUuidStr = call.getString("world");
+        String order = call.getString("order");
+        String response = call.getString("response");
 
         if (worldUuidStr == null) {
-            return McpToolResponse.error("world UUID is required");
+            return CompletableFuture.completedFuture(McpToolResponse.error("world UUID is required"));
         }
 
-        if (blocksObj == null) {
-            return McpToolResponse.error("blocks array is required");
+        if (order != null && !ORDER_CHUNK.equals(order) && !ORDER_ORIGINAL.equals(order)) {
+            return CompletableFuture.completedFuture(McpToolResponse.error("order must be '" + ORDER_CHUNK + "' or '" + ORDER_ORIGINAL + "'"));
         }
 
-        JsonArray blocks;
-        try {
-            if (blocksObj instanceof JsonArray) {
-                blocks = (JsonArray) blocksObj;
-            } else if (blocksObj instanceof List) {
-                blocks = GSON.toJsonTree(blocksObj).getAsJsonArray();
-            } else {
-                JsonElement element = GSON.toJsonTree(blocksObj);
-                if (element.isJsonArray()) {
-                    blocks = element.getAsJsonArray();
-                } else {
-                    return McpToolResponse.error("blocks must be an array");
-                }
-            }
-        } catch (Exception e) {
-            logger.atSevere().withCause(e).log("Error parsing blocks array");
-            return McpToolResponse.error("Invalid blocks format: " + e.getMessage());
-        }
-
-        if (blocks.size() == 0) {
-            return McpToolResponse.error("blocks array cannot be empty");
+        if (response != null && !RESPONSE_FULL.equals(response) && !RESPONSE_SUMMARY.equals(response) && !RESPONSE_BITMAP.equals(response)) {
+            return CompletableFuture.completedFuture(McpToolResponse.error("response must be '" + RESPONSE_FULL + "', '" + RESPONSE_SUMMARY + "' or '" + RESPONSE_BITMAP + "'"));
         }
 
         int maxBlocks = config.getFeatures().getMaxBlocksBatch();
-        if (blocks.size() > maxBlocks) {
-            return McpToolResponse.error("Maximum " + maxBlocks + " blocks per request");
+        BlockBatch batch;
+        try {
+            batch = parseBatch(call, maxBlocks);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(McpToolResponse.error(e.getMessage()));
         }
 
         UUID worldUuid;
         try {
             worldUuid = UUID.fromString(worldUuidStr);
         } catch (IllegalArgumentException e) {
-            return McpToolResponse.error("Invalid world UUID");
+            return CompletableFuture.completedFuture(McpToolResponse.error("Invalid world UUID"));
         }
 
         World world = Universe.get().getWorld(worldUuid);
         if (world == null) {
-            return McpToolResponse.error("World not found: " + worldUuidStr);
+            return CompletableFuture.completedFuture(McpToolResponse.error("World not found: " + worldUuidStr));
         }
 
-        CompletableFuture<McpToolResponse> future = new CompletableFuture<>();
-
-        world.execute(() -> {
-            try {
-                JsonArray results = new JsonArray();
-                int successCount = 0;
-                int failureCount = 0;
-
-                for (int i = 0; i < blocks.size(); i++) {
-                    JsonObject blockData = blocks.get(i).getAsJsonObject();
-
-                    int x = blockData.get("x").getAsInt();
-                    int y = blockData.get("y").getAsInt();
-                    int z = blockData.get("z").getAsInt();
-                    String blockTypeStr = blockData.get("blockType").getAsString();
-
-                    BlockType blockType = BlockType.getAssetMap().getAsset(blockTypeStr);
-                    if (blockType == null || blockType == BlockType.EMPTY) {
-                        failureCount++;
-                        JsonObject result = new JsonObject();
-                        result.addProperty("x", x);
-                        result.addProperty("y", y);
-                        result.addProperty("z", z);
-                        result.addProperty("status", "error");
-                        result.addProperty("message", "Unknown block type: " + blockTypeStr);
-                        results.add(result);
-                        continue;
-                    }
+        int[] placementOrder = ORDER_ORIGINAL.equals(order)
+            ? BlockPlacementPlanner.originalOrder(batch)
+            : BlockPlacementPlanner.planByChunk(batch);
 
-                    try {
-                        world.setBlock(x, y, z, blockType.getId(), 0);
-                        successCount++;
-
-                        JsonObject result = new JsonObject();
-                        result.addProperty("x", x);
-                        result.addProperty("y", y);
-                        result.addProperty("z", z);
-                        result.addProperty("blockType", blockTypeStr);
-                        result.addProperty("status", "success");
-                        results.add(result);
-                    } catch (Exception e) {
-                        failureCount++;
-                        JsonObject result = new JsonObject();
-                        result.addProperty("x", x);
-                        result.addProperty("y", y);
-                        result.addProperty("z", z);
-                        result.addProperty("status", "error");
-                        result.addProperty("message", e.getMessage());
-                        results.add(result);
-                    }
-                }
+        return writeScheduler.submit(world, new SetBlocksJob(batch, placementOrder, blockPalette))
+            .thenApply(job -> buildResponse(job, response))
+            .exceptionally(t -> {
+                logger.atSevere().withCause(t).log("[SET_BLOCKS_BATCH] Exception");
+                return McpToolResponse.error(t.toString());
+            });
+    }
+
+    private BlockBatch parseBatch(McpToolCall call, int maxBlocks) {
+        String packed = call.getString("packed");
+        if (packed != null) {
+            List<?> paletteArg = call.getList("palette");
+            if (paletteArg == null) {
+                throw new IllegalArgumentException("palette array is required with packed blocks");
+            }
+            List<String> palette = new ArrayList<>(paletteArg.size());
+            for (Object entry : paletteArg) {
+                palette.add(String.valueOf(entry));
+            }
+            // Runs keep the payload small, so packed input is allowed to expand to more blocks
+            return BlockPayloadDecoder.decode(palette, packed, call.getString("axis"), maxBlocks, config.getFeatures().getMaxPackedBlocksBatch());
+        }
 
-                JsonObject response = new JsonObject();
-                response.addProperty("total", blocks.size());
-                response.addProperty("success", successCount);
-                response.addProperty("failed", failureCount);
-                response.add("results", results);
+        List<?> blocks = call.getList("blocks");
+        if (blocks == null) {
+            throw new IllegalArgumentException("blocks array or packed blocks are required");
+        }
+        return BlockPayloadDecoder.decodeObjects(blocks, maxBlocks);
+    }
 
-                logger.atInfo().log("[SET_BLOCKS_BATCH] Processed " + blocks.size() + 
-                    " blocks (success: " + successCount + ", failed: " + failureCount + ")");
+    private McpToolResponse buildResponse(SetBlocksJob job, String mode) {
+        BlockBatch batch = job.getBatch();
 
-                future.complete(McpToolResponse.success(GSON.toJson(response)));
+        logger.atInfo().log("[SET_BLOCKS_BATCH] Processed " + batch.size() +
+            " blocks (success: " + job.getSuccessCount() + ", failed: " + job.getFailureCount() + ")");
 
-            } catch (Throwable t) {
-                logger.atSevere().withCause(t).log("[SET_BLOCKS_BATCH] Exception");
-                future.complete(McpToolResponse.error(t.toString()));
+        return McpToolResponse.json(json -> {
+            json.writeStartObject();
+            json.writeNumberField("total", batch.size());
+            json.writeNumberField("success", job.getSuccessCount());
+            json.writeNumberField("failed", job.getFailureCount());
+
+            if (RESPONSE_SUMMARY.equals(mode)) {
+                json.writeArrayFieldStart("failures");
+                for (int i = 0; i < batch.size(); i++) {
+                    if (job.isSuccess(i)) {
+                        continue;
+                    }
+                    json.writeStartObject();
+                    json.writeNumberField("index", i);
+                    json.writeNumberField("x", batch.getX(i));
+                    json.writeNumberField("y", batch.getY(i));
+                    json.writeNumberField("z", batch.getZ(i));
+                    json.writeStringField("message", job.getError(i));
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+            } else if (RESPONSE_BITMAP.equals(mode)) {
+                // Bit i (least significant bit first within each byte) is set when block i failed
+                BitSet failed = new BitSet(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    if (!job.isSuccess(i)) {
+                        failed.set(i);
+                    }
+                }
+                json.writeStringField("failedBitmap", Base64.getEncoder().encodeToString(failed.toByteArray()));
+            } else {
+                json.writeArrayFieldStart("results");
+                for (int i = 0; i < batch.size(); i++) {
+                    json.writeStartObject();
+                    json.writeNumberField("x", batch.getX(i));
+                    json.writeNumberField("y", batch.getY(i));
+                    json.writeNumberField("z", batch.getZ(i));
+                    if (job.isSuccess(i)) {
+                        json.writeStringField("blockType", batch.getBlockType(i));
+                        json.writeStringField("status", "success");
+                    } else {
+                        json.writeStringField("status", "error");
+                        json.writeStringField("message", job.getError(i));
+                    }
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
             }
+            json.writeEndObject();
         });
-
-        return future.join();
     }
 
     @Override
@@ -201,9 +223,4 @@ public class SetBlocksBatchFeature implements McpFeature {
         }
         return false;
     }
-
-    private String getArgumentAsString(McpToolCall call, String key) {
-        Object value = call.getArguments().get(key);
-        return value != null ? value.toString() : null;
-    }
 }
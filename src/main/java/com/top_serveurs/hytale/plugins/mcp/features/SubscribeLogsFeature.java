@@ -0,0 +1,109 @@
+package com.top_serveurs.hytale.plugins.mcp.features;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+import com.top_serveurs.hytale.plugins.mcp.logs.LogQuery;
+import com.top_serveurs.hytale.plugins.mcp.logs.LogSubscriptions;
+import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+public class SubscribeLogsFeature implements McpFeature {
+    private static final int DEFAULT_TTL_SECONDS = 600;
+    private static final int MAX_TTL_SECONDS = 3600;
+    private final HytaleLogger logger;
+    private final LogSubscriptions subscriptions;
+
+    public SubscribeLogsFeature(HytaleLogger logger, LogSubscriptions subscriptions) {
+        this.logger = logger;
+        this.subscriptions = subscriptions;
+    }
+
+    @Override
+    public String getName() {
+        return "subscribe_logs";
+    }
+
+    @Override
+    public McpTool getToolDefinition() {
+        return new McpTool(
+            "subscribe_logs",
+            "Streams new server log lines to this session as logging notifications instead of polling get_logs. Optionally filter by level and regular expression. The subscription expires after ttlSeconds.",
+            "function"
+        );
+    }
+
+    @Override
+    public String getInputSchema() {
+        return McpToolSchema.schemaWithProperties(
+            java.util.Map.of(
+                "level", McpToolSchema.stringProperty("Only stream lines with this log level, e.g. WARN, ERROR"),
+                "grep", McpToolSchema.stringProperty("Only stream lines matching this regular expression, applied to the first " + LogQuery.MAX_BOUNDED_LENGTH + " characters of each line. A pattern too slow to evaluate ends the subscription"),
+                "ttlSeconds", McpToolSchema.integerProperty("Subscription lifetime in seconds (default 600, max 3600)")
+            ),
+            java.util.List.of()
+        );
+    }
+
+    @Override
+    public McpToolResponse execute(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
+        try {
+            if (call.getExchange() == null) {
+                return McpToolResponse.error("Log subscriptions require an MCP session");
+            }
+
+            String level = call.getString("level");
+            String grepArg = call.getString("grep");
+            Integer ttlArg = call.getInteger("ttlSeconds");
+
+            Pattern grep = null;
+            if (grepArg != null && !grepArg.isEmpty()) {
+                try {
+                    grep = Pattern.compile(grepArg);
+                } catch (PatternSyntaxException e) {
+                    return McpToolResponse.error("Invalid grep pattern: " + e.getDescription());
+                }
+            }
+
+            int ttlSeconds = ttlArg != null ? ttlArg : DEFAULT_TTL_SECONDS;
+            if (ttlSeconds <= 0) {
+                return McpToolResponse.error("ttlSeconds must be positive");
+            }
+            int finalTtl = Math.min(ttlSeconds, MAX_TTL_SECONDS);
+
+            LogQuery filter = new LogQuery(level != null ? level.toUpperCase() : null, null, null, grep);
+            String subscriptionId = subscriptions.subscribe(call.getExchange(), filter, finalTtl * 1000L);
+            if (subscriptionId == null) {
+                return McpToolResponse.error("Too many log subscriptions (max " + LogSubscriptions.MAX_SUBSCRIPTIONS_PER_SESSION +
+                    " per session, " + LogSubscriptions.MAX_SUBSCRIPTIONS + " in total)");
+            }
+
+            logger.atInfo().log("[SUBSCRIBE_LOGS] Session " + call.getExchange().sessionId() + " subscribed as " + subscriptionId);
+
+            return McpToolResponse.json(json -> {
+                json.writeStartObject();
+                json.writeStringField("subscriptionId", subscriptionId);
+                json.writeNumberField("ttlSeconds", finalTtl);
+                json.writeEndObject();
+            });
+        } catch (Exception e) {
+            logger.atSevere().withCause(e).log("Error subscribing to logs");
+            return McpToolResponse.error("Failed to subscribe to logs: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean hasPermission(McpAuthManager.AuthLevel authLevel, McpConfig config) {
+        if (authLevel == McpAuthManager.AuthLevel.ADMIN) {
+            return config.getFeatures().getAdmins().canGetLogs();
+        }
+        if (authLevel == McpAuthManager.AuthLevel.PLAYER) {
+            return config.getFeatures().getPlayers().canGetLogs();
+        }
+        return false;
+    }
+}
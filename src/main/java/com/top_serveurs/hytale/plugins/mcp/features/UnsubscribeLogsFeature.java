@@ -0,0 +1,81 @@
+package com.top_serveurs.hytale.plugins.mcp.features;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+import com.top_serveurs.hytale.plugins.mcp.logs.LogSubscriptions;
+import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
+
+public class UnsubscribeLogsFeature implements McpFeature {
+    private final HytaleLogger logger;
+    private final LogSubscriptions subscriptions;
+
+    public UnsubscribeLogsFeature(HytaleLogger logger, LogSubscriptions subscriptions) {
+        this.logger = logger;
+        this.subscriptions = subscriptions;
+    }
+
+    @Override
+    public String getName() {
+        return "unsubscribe_logs";
+    }
+
+    @Override
+    public McpTool getToolDefinition() {
+        return new McpTool(
+            "unsubscribe_logs",
+            "Stops a log subscription created by subscribe_logs in this session",
+            "function"
+        );
+    }
+
+    @Override
+    public String getInputSchema() {
+        return McpToolSchema.schemaWithProperties(
+            java.util.Map.of(
+                "subscriptionId", McpToolSchema.stringProperty("Subscription ID returned by subscribe_logs")
+            ),
+            java.util.List.of("subscriptionId")
+        );
+    }
+
+    @Override
+    public McpToolResponse execute(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
+        try {
+            String subscriptionId = call.getString("subscriptionId");
+            if (subscriptionId == null || subscriptionId.isEmpty()) {
+                return McpToolResponse.error("subscriptionId is required");
+            }
+            if (call.getExchange() == null) {
+                return McpToolResponse.error("Log subscriptions require an MCP session");
+            }
+
+            if (!subscriptions.unsubscribe(call.getExchange().sessionId(), subscriptionId)) {
+                return McpToolResponse.error("Subscription not found: " + subscriptionId);
+            }
+
+            return McpToolResponse.json(json -> {
+                json.writeStartObject();
+                json.writeStringField("subscriptionId", subscriptionId);
+                json.writeStringField("status", "unsubscribed");
+                json.writeEndObject();
+            });
+        } catch (Exception e) {
+            logger.atSevere().withCause(e).log("Error unsubscribing from logs");
+            return McpToolResponse.error("Failed to unsubscribe from logs: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean hasPermission(McpAuthManager.AuthLevel authLevel, McpConfig config) {
+        if (authLevel == McpAuthManager.AuthLevel.ADMIN) {
+            return config.getFeatures().getAdmins().canGetLogs();
+        }
+        if (authLevel == McpAuthManager.AuthLevel.PLAYER) {
+            return config.getFeatures().getPlayers().canGetLogs();
+        }
+        return false;
+    }
+}
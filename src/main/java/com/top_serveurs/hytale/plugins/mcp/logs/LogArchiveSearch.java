@@ -0,0 +1,108 @@
+package com.top_serveurs.hytale.plugins.mcp.logs;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Searches several log files at once, plain or gzip-compressed. Every file is streamed forward on its
+ * own worker keeping only its last matching lines, then the per-file tails are merged by timestamp.
+ */
+public class LogArchiveSearch {
+    private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private final ExecutorService executor;
+
+    public LogArchiveSearch() {
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(THREADS, r -> {
+            Thread thread = new Thread(r, "MCP-LogSearch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the last matching lines across all files in chronological order.
+     */
+    public List<String> search(List<File> files, LogQuery query, int limit) throws IOException {
+        List<CompletableFuture<List<TimedLine>>> scans = new ArrayList<>(files.size());
+        for (File file : files) {
+            scans.add(CompletableFuture.supplyAsync(() -> scan(file, query, limit), executor));
+        }
+
+        List<TimedLine> merged = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<TimedLine>> scan : scans) {
+                merged.addAll(scan.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            if (e.getCause() instanceof LogQuery.MatchTimeoutException) {
+                throw (LogQuery.MatchTimeoutException) e.getCause();
+            }
+            throw e;
+        }
+
+        // Files are added oldest first and each tail is already in order, so the stable sort only interleaves overlaps
+        merged.sort(Comparator.comparing(line -> line.time));
+
+        List<String> lines = new ArrayList<>(Math.min(limit, merged.size()));
+        for (int i = Math.max(0, merged.size() - limit); i < merged.size(); i++) {
+            lines.add(merged.get(i).text);
+        }
+        return lines;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static List<TimedLine> scan(File file, LogQuery query, int limit) {
+        ArrayDeque<TimedLine> tail = new ArrayDeque<>(limit);
+        LocalDateTime current = LocalDateTime.MIN;
+
+        try (BufferedReader reader = LogFiles.open(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Lines without a timestamp, such as stack traces, sort with the line they follow
+                LocalDateTime timestamp = LogLine.parseTimestamp(line);
+                if (timestamp != null) {
+                    current = timestamp;
+                }
+                if (query.matches(line, LogQuery.LINE_BUDGET_NANOS)) {
+                    if (tail.size() == limit) {
+                        tail.pollFirst();
+                    }
+                    tail.addLast(new TimedLine(current, line));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file.getName(), e);
+        }
+        return new ArrayList<>(tail);
+    }
+
+    private static final class TimedLine {
+        final LocalDateTime time;
+        final String text;
+
+        TimedLine(LocalDateTime time, String text) {
+            this.time = time;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.top_serveurs.hytale.plugins.mcp.logs;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+public final class LogFiles {
+    private static final String LATEST = "latest.log";
+    private static final String GZIP_SUFFIX = ".gz";
+    // Rotated logs start with their date, e.g. 2026-02-01.log or 2026-02-01-3.log.gz
+    private static final Pattern DATED_LOG = Pattern.compile("^(\\d{4}-\\d{2}-\\d{2}).*\\.log(\\.gz)?$");
+
+    private static final Path[] LOG_DIRECTORIES = {
+        Paths.get("logs"),
+        Paths.get("..", "logs"),
+        Paths.get("."),
+        Paths.get("server", "logs"),
+        Paths.get("..", "..", "logs")
+    };
+
+    private LogFiles() {
+    }
+
+    /**
+     * Locates the log file for a date, plain or gzip-compressed, or the latest log when the date is null.
+     */
+    public static File find(String date) {
+        String logFileName = date != null ? date + ".log" : LATEST;
+
+        for (Path directory : LOG_DIRECTORIES) {
+            File file = directory.resolve(logFileName).toFile();
+            if (file.isFile()) {
+                return file;
+            }
+            if (date != null) {
+                File compressed = directory.resolve(logFileName + GZIP_SUFFIX).toFile();
+                if (compressed.isFile()) {
+                    return compressed;
+                }
+            }
+        }
+
+        if (date == null) {
+            File logsDir = new File("logs");
+            File[] logFiles = logsDir.listFiles((dir, name) -> name.endsWith(".log"));
+            // listFiles has no defined order, so pick the most recently written log explicitly
+            if (logFiles != null && logFiles.length > 0) {
+                return Arrays.stream(logFiles).max(Comparator.comparingLong(File::lastModified)).get();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Lists the dated logs, plain or compressed, from the given days inclusive, oldest first. The latest
+     * log is included when the range reaches today.
+     */
+    public static List<File> findRange(LocalDate from, LocalDate to) {
+        List<File> files = new ArrayList<>();
+        File directory = findDirectory();
+        if (directory == null) {
+            return files;
+        }
+
+        File[] candidates = directory.listFiles();
+        if (candidates != null) {
+            for (File file : candidates) {
+                LocalDate date = dateOf(file);
+                if (file.isFile() && date != null && !date.isBefore(from) && !date.isAfter(to)) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(Comparator.comparing(LogFiles::dateOf).thenComparingLong(File::lastModified));
+
+        File latest = new File(directory, LATEST);
+        if (!to.isBefore(LocalDate.now()) && latest.isFile()) {
+            files.add(latest);
+        }
+        return files;
+    }
+
+    /**
+     * Opens a log for forward reading, decompressing gzip archives on the fly.
+     */
+    public static BufferedReader open(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            if (isCompressed(file)) {
+                in = new GZIPInputStream(in, 64 * 1024);
+            }
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    public static boolean isCompressed(File file) {
+        return file.getName().endsWith(GZIP_SUFFIX);
+    }
+
+    private static File findDirectory() {
+        for (Path directory : LOG_DIRECTORIES) {
+            File file = directory.toFile();
+            if (new File(file, LATEST).isFile()) {
+                return file;
+            }
+        }
+        File logs = LOG_DIRECTORIES[0].toFile();
+        return logs.isDirectory() ? logs : null;
+    }
+
+    private static LocalDate dateOf(File file) {
+        Matcher matcher = DATED_LOG.matcher(file.getName());
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(matcher.group(1));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
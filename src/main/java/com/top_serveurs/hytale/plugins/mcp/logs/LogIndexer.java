@@ -0,0 +1,244 @@
+package com.top_serveurs.hytale.plugins.mcp.logs;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Tails the latest server log in the background and records, for every minute of log output, the byte
+ * range it occupies and the levels that occur in it. Queries then only read the ranges whose minute and
+ * levels can match, newest first, instead of rescanning the file.
+ */
+public class LogIndexer {
+    private static final long POLL_INTERVAL_MS = 1000;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    // Output written before the first timestamped line cannot be placed in time
+    private static final long UNKNOWN_MINUTE = Long.MIN_VALUE;
+
+    private final HytaleLogger logger;
+    private final Supplier<File> logFile;
+    private final ScheduledExecutorService executor;
+    private final List<Bucket> buckets = new ArrayList<>();
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    // Written by the indexing thread under the lock, read by queries under the lock
+    private File file;
+    private Object fileKey;
+    private long indexedOffset = 0;
+    private boolean initialPass = true;
+
+    public LogIndexer(HytaleLogger logger, Supplier<File> logFile) {
+        this.logger = logger;
+        this.logFile = logFile;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "MCP-LogIndexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                catchUp();
+            } catch (Exception e) {
+                logger.atWarning().withCause(e).log("[GET_LOGS] Log indexing failed");
+            }
+        }, 0, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Registers a listener called with every complete line appended to the log after startup, in order.
+     * Listeners run on the indexing thread and must not block.
+     */
+    public void addListener(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the last matching lines of the latest log in chronological order, or null when there is
+     * no latest log to query. Never indexes itself: output the indexer has not reached yet, including
+     * the whole file while the first pass is still running, is scanned directly.
+     */
+    public List<String> query(LogQuery query, int limit) throws IOException {
+        File target = logFile.get();
+        if (target == null) {
+            return null;
+        }
+        Object targetKey = Files.readAttributes(target.toPath(), BasicFileAttributes.class).fileKey();
+        long length = target.length();
+        List<long[]> ranges = new ArrayList<>();
+
+        synchronized (this) {
+            boolean indexed = target.equals(file) && Objects.equals(targetKey, fileKey) && length >= indexedOffset;
+            long tailStart = indexed ? indexedOffset : 0;
+
+            // Output past the index is the newest, and all there is when the index belongs to an older file
+            ranges.add(new long[]{tailStart, -1});
+            if (indexed) {
+                int wantedLevel = query.getLevel() != null ? LogLine.levelBit(query.getLevel()) : 0;
+                long sinceMinute = query.getSince() != null ? toMinute(query.getSince()) : UNKNOWN_MINUTE;
+                long untilMinute = query.getUntil() != null ? toMinute(query.getUntil()) : Long.MAX_VALUE;
+
+                for (int i = buckets.size() - 1; i >= 0; i--) {
+                    Bucket bucket = buckets.get(i);
+                    boolean inRange = bucket.minute == UNKNOWN_MINUTE || bucket.minute >= sinceMinute && bucket.minute <= untilMinute;
+                    boolean hasLevel = wantedLevel == 0 || (bucket.levelMask & wantedLevel) != 0;
+                    if (inRange && hasLevel) {
+                        ranges.add(new long[]{bucket.start, bucket.end});
+                    }
+                }
+            }
+        }
+
+        List<String> lines = new ArrayList<>();
+        for (long[] range : ranges) {
+            try (ReverseLineReader reader = new ReverseLineReader(target, range[0], range[1])) {
+                String line;
+                while (lines.size() < limit && (line = reader.readLine()) != null) {
+                    if (query.matches(line, LogQuery.LINE_BUDGET_NANOS)) {
+                        lines.add(line);
+                    }
+                }
+            }
+            if (lines.size() >= limit) {
+                break;
+            }
+        }
+
+        Collections.reverse(lines);
+        return lines;
+    }
+
+    /**
+     * Indexes whatever was appended since the last pass. Only the indexing thread calls this; the lock
+     * is taken per line so queries are never held up by a long pass.
+     */
+    void catchUp() throws IOException {
+        File current = logFile.get();
+        if (current == null) {
+            reset(null, null);
+            initialPass = false;
+            return;
+        }
+
+        Object currentKey = Files.readAttributes(current.toPath(), BasicFileAttributes.class).fileKey();
+        long length = current.length();
+        // A different file or a truncated one means the log was rotated
+        if (!current.equals(file) || !Objects.equals(currentKey, fileKey) || length < indexedOffset) {
+            reset(current, currentKey);
+        }
+        if (length > indexedOffset) {
+            indexRange(length);
+        }
+        // Everything read by the first pass was logged before the plugin started
+        initialPass = false;
+    }
+
+    private synchronized void reset(File current, Object currentKey) {
+        file = current;
+        fileKey = currentKey;
+        indexedOffset = 0;
+        buckets.clear();
+    }
+
+    private void indexRange(long length) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            raf.seek(indexedOffset);
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            byte[] pending = new byte[0];
+            long lineStart = indexedOffset;
+            long remaining = length - indexedOffset;
+
+            while (remaining > 0) {
+                int read = raf.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read <= 0) {
+                    break;
+                }
+                remaining -= read;
+
+                int from = 0;
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] != '\n') {
+                        continue;
+                    }
+                    byte[] lineBytes = concat(pending, buffer, from, i);
+                    pending = new byte[0];
+                    long lineEnd = lineStart + lineBytes.length + 1;
+                    addLine(new String(lineBytes, StandardCharsets.UTF_8), lineStart, lineEnd);
+                    lineStart = lineEnd;
+                    from = i + 1;
+                }
+                pending = concat(pending, buffer, from, read);
+            }
+            // A trailing partial line is picked up on the next pass once it is complete
+        }
+    }
+
+    private void addLine(String line, long start, long end) {
+        if (!initialPass) {
+            for (Consumer<String> listener : listeners) {
+                listener.accept(line);
+            }
+        }
+
+        LocalDateTime timestamp = LogLine.parseTimestamp(line);
+        int levelMask = LogLine.levelMask(line);
+        synchronized (this) {
+            Bucket last = buckets.isEmpty() ? null : buckets.get(buckets.size() - 1);
+            if (last == null || timestamp != null && toMinute(timestamp) != last.minute) {
+                last = new Bucket(timestamp != null ? toMinute(timestamp) : UNKNOWN_MINUTE, start);
+                buckets.add(last);
+            }
+            last.end = end;
+            last.levelMask |= levelMask;
+            // Advanced with the bucket so queries never read a line both from the index and the tail
+            indexedOffset = end;
+        }
+    }
+
+    private static byte[] concat(byte[] head, byte[] buffer, int from, int to) {
+        byte[] result = new byte[head.length + to - from];
+        System.arraycopy(head, 0, result, 0, head.length);
+        System.arraycopy(buffer, from, result, head.length, to - from);
+        return result;
+    }
+
+    private static long toMinute(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static class Bucket {
+        final long minute;
+        final long start;
+        long end;
+        int levelMask;
+
+        Bucket(long minute, long start) {
+            this.minute = minute;
+            this.start = start;
+            this.end = start;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.top_serveurs.hytale.plugins.mcp.logs;
+
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Helpers to read the timestamp and level of a raw server log line.
+ */
+public final class LogLine {
+    private static final Pattern TIMESTAMP = Pattern.compile(
+        "^\\[?(\\d{4})[-/](\\d{2})[-/](\\d{2})[ T](\\d{2}):(\\d{2}):(\\d{2})");
+
+    private static final String[] LEVELS = {
+        "SEVERE", "ERROR", "WARNING", "WARN", "INFO", "CONFIG", "DEBUG", "FINE", "FINER", "FINEST"
+    };
+
+    private LogLine() {
+    }
+
+    /**
+     * Returns the timestamp the line starts with, or null for lines without one such as stack traces.
+     */
+    public static LocalDateTime parseTimestamp(String line) {
+        Matcher matcher = TIMESTAMP.matcher(line);
+        if (!matcher.find()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(
+                Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)), Integer.parseInt(matcher.group(3)),
+                Integer.parseInt(matcher.group(4)), Integer.parseInt(matcher.group(5)), Integer.parseInt(matcher.group(6)));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Matches "[LEVEL]", a level padded inside the timestamp bracket such as "10:00:02  ERROR]", or the
+     * level as a separate word.
+     */
+    public static boolean hasLevel(String line, String level) {
+        return hasLevel(line, line.toUpperCase(), level);
+    }
+
+    /**
+     * Bit of a well-known level, or 0 for levels the index does not track.
+     */
+    public static int levelBit(String level) {
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (LEVELS[i].equals(level)) {
+                return 1 << i;
+            }
+        }
+        return 0;
+    }
+
+    public static int levelMask(String line) {
+        String upper = line.toUpperCase();
+        int mask = 0;
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (hasLevel(line, upper, LEVELS[i])) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    private static boolean hasLevel(String line, String upper, String level) {
+        return line.contains("[" + level + "]") || line.contains(" " + level + "]") || upper.contains(" " + level + " ");
+    }
+}
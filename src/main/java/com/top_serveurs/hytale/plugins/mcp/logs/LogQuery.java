@@ -0,0 +1,118 @@
+package com.top_serveurs.hytale.plugins.mcp.logs;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Filters applied to log lines by get_logs. Lines without a timestamp, such as stack trace lines,
+ * are not excluded by the time range.
+ */
+public class LogQuery {
+    public static final int MAX_BOUNDED_LENGTH = 4096;
+    // Time a pattern may spend on one line; ordinary patterns need microseconds even on the longest lines
+    public static final long LINE_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final String level;
+    private final LocalDateTime since;
+    private final LocalDateTime until;
+    private final Pattern grep;
+
+    public LogQuery(String level, LocalDateTime since, LocalDateTime until, Pattern grep) {
+        this.level = level;
+        this.since = since;
+        this.until = until;
+        this.grep = grep;
+    }
+
+    public boolean matches(String line) {
+        return matchesLevelAndTime(line) && (grep == null || grep.matcher(line).find());
+    }
+
+    /**
+     * Like {@link #matches(String)}, but the pattern only sees the first {@link #MAX_BOUNDED_LENGTH}
+     * characters and gives up with a {@link MatchTimeoutException} once the time budget is spent, so
+     * a pattern that backtracks catastrophically cannot hold the caller.
+     */
+    public boolean matches(String line, long budgetNanos) {
+        if (!matchesLevelAndTime(line)) {
+            return false;
+        }
+        if (grep == null) {
+            return true;
+        }
+        CharSequence input = line.length() > MAX_BOUNDED_LENGTH ? line.subSequence(0, MAX_BOUNDED_LENGTH) : line;
+        return grep.matcher(new DeadlineCharSequence(input, System.nanoTime() + budgetNanos)).find();
+    }
+
+    private boolean matchesLevelAndTime(String line) {
+        if (level != null && !LogLine.hasLevel(line, level)) {
+            return false;
+        }
+        if (since != null || until != null) {
+            LocalDateTime timestamp = LogLine.parseTimestamp(line);
+            if (timestamp != null && (since != null && timestamp.isBefore(since) || until != null && timestamp.isAfter(until))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public LocalDateTime getSince() {
+        return since;
+    }
+
+    public LocalDateTime getUntil() {
+        return until;
+    }
+
+    public static class MatchTimeoutException extends RuntimeException {
+        public MatchTimeoutException() {
+            super("Pattern took too long to evaluate", null, false, false);
+        }
+    }
+
+    /**
+     * Checks the clock every few hundred character reads, which the regex engine performs on every
+     * backtracking step, and aborts the match once the deadline has passed.
+     */
+    private static final class DeadlineCharSequence implements CharSequence {
+        private static final int CHECK_INTERVAL = 256;
+
+        private final CharSequence text;
+        private final long deadline;
+        private int reads = 0;
+
+        DeadlineCharSequence(CharSequence text, long deadline) {
+            this.text = text;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (++reads % CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                throw new MatchTimeoutException();
+            }
+            return text.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new DeadlineCharSequence(text.subSequence(start, end), deadline);
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.top_serveurs.hytale.plugins.mcp.logs;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import io.modelcontextprotocol.server.McpAsyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans the lines appended to the server log out to MCP sessions as logging notifications. Lines are
+ * filtered per subscription and buffered in a bounded queue, which a worker off the indexer thread
+ * sends one notification at a time. When a client falls behind the oldest buffered lines are dropped
+ * and reported instead of growing memory, and a client that stops reading is dropped.
+ */
+public class LogSubscriptions {
+    public static final int MAX_SUBSCRIPTIONS = 64;
+    public static final int MAX_SUBSCRIPTIONS_PER_SESSION = 4;
+    private static final int QUEUE_CAPACITY = 500;
+    private static final String LOGGER_NAME = "server";
+    // A client that takes longer than this to accept one notification is considered gone
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HytaleLogger logger;
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final Executor sender;
+
+    public LogSubscriptions(HytaleLogger logger) {
+        this(logger, task -> Schedulers.boundedElastic().schedule(task));
+    }
+
+    LogSubscriptions(HytaleLogger logger, Executor sender) {
+        this.logger = logger;
+        this.sender = sender;
+    }
+
+    /**
+     * Creates a subscription for the session, or returns null when the subscription limits are reached.
+     */
+    public synchronized String subscribe(McpAsyncServerExchange exchange, LogQuery filter, long ttlMillis) {
+        removeExpired();
+        long sessionCount = subscriptions.values().stream()
+            .filter(subscription -> Objects.equals(subscription.sessionId, exchange.sessionId()))
+            .count();
+        if (subscriptions.size() >= MAX_SUBSCRIPTIONS || sessionCount >= MAX_SUBSCRIPTIONS_PER_SESSION) {
+            return null;
+        }
+
+        String id = UUID.randomUUID().toString();
+        subscriptions.put(id, new Subscription(id, exchange, filter, System.currentTimeMillis() + ttlMillis));
+        return id;
+    }
+
+    /**
+     * Removes a subscription owned by the session; returns false when there is no such subscription.
+     */
+    public boolean unsubscribe(String sessionId, String id) {
+        Subscription subscription = subscriptions.get(id);
+        if (subscription == null || !Objects.equals(subscription.sessionId, sessionId)) {
+            return false;
+        }
+        return subscriptions.remove(id, subscription);
+    }
+
+    public void publish(String line) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        removeExpired();
+
+        String text = line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+        for (Subscription subscription : subscriptions.values()) {
+            boolean matches;
+            try {
+                matches = subscription.filter.matches(text, LogQuery.LINE_BUDGET_NANOS);
+            } catch (LogQuery.MatchTimeoutException e) {
+                // A pattern this slow would stall indexing on every line, so the subscription goes
+                logger.atWarning().log("[SUBSCRIBE_LOGS] Dropping subscription " + subscription.id + ": grep pattern is too slow");
+                subscriptions.remove(subscription.id, subscription);
+                continue;
+            }
+            if (matches) {
+                subscription.offer(text);
+                drain(subscription);
+            }
+        }
+    }
+
+    public void clear() {
+        subscriptions.clear();
+    }
+
+    private void removeExpired() {
+        long now = System.currentTimeMillis();
+        subscriptions.values().removeIf(subscription -> subscription.expiresAt <= now);
+    }
+
+    private void drain(Subscription subscription) {
+        if (subscription.sending.compareAndSet(false, true)) {
+            // Sending can block on a slow client, so it never runs on the indexer thread that publishes
+            sender.execute(() -> sendPending(subscription));
+        }
+    }
+
+    private void sendPending(Subscription subscription) {
+        while (true) {
+            McpSchema.LoggingMessageNotification notification;
+            while ((notification = subscription.next()) != null) {
+                try {
+                    subscription.exchange.loggingNotification(notification).block(SEND_TIMEOUT);
+                } catch (RuntimeException e) {
+                    logger.atWarning().log("[SUBSCRIBE_LOGS] Dropping subscription " + subscription.id + ": " + e.getMessage());
+                    subscriptions.remove(subscription.id, subscription);
+                    return;
+                }
+            }
+            subscription.sending.set(false);
+            // A line may have been queued between the empty poll and releasing the flag
+            if (!subscription.hasPending() || !subscription.sending.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private static McpSchema.LoggingLevel levelOf(String line) {
+        if (LogLine.hasLevel(line, "SEVERE") || LogLine.hasLevel(line, "ERROR")) {
+            return McpSchema.LoggingLevel.ERROR;
+        }
+        if (LogLine.hasLevel(line, "WARNING") || LogLine.hasLevel(line, "WARN")) {
+            return McpSchema.LoggingLevel.WARNING;
+        }
+        return McpSchema.LoggingLevel.INFO;
+    }
+
+    private static final class Subscription {
+        final String id;
+        final String sessionId;
+        final McpAsyncServerExchange exchange;
+        final LogQuery filter;
+        final long expiresAt;
+        final AtomicBoolean sending = new AtomicBoolean(false);
+        private final ArrayDeque<String> queue = new ArrayDeque<>();
+        private int dropped = 0;
+
+        Subscription(String id, McpAsyncServerExchange exchange, LogQuery filter, long expiresAt) {
+            this.id = id;
+            this.sessionId = exchange.sessionId();
+            this.exchange = exchange;
+            this.filter = filter;
+            this.expiresAt = expiresAt;
+        }
+
+        synchronized void offer(String line) {
+            if (queue.size() >= QUEUE_CAPACITY) {
+                queue.pollFirst();
+                dropped++;
+            }
+            queue.addLast(line);
+        }
+
+        synchronized boolean hasPending() {
+            return !queue.isEmpty() || dropped > 0;
+        }
+
+        synchronized McpSchema.LoggingMessageNotification next() {
+            if (dropped > 0) {
+                String notice = "[MCP] " + dropped + " log lines dropped for subscription " + id + " because the client fell behind";
+                dropped = 0;
+                return new McpSchema.LoggingMessageNotification(McpSchema.LoggingLevel.WARNING, LOGGER_NAME, notice);
+            }
+            String line = queue.pollFirst();
+            return line != null ? new McpSchema.LoggingMessageNotification(levelOf(line), LOGGER_NAME, line) : null;
+        }
+    }
+}
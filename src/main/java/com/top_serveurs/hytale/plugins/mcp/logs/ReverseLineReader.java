@@ -0,0 +1,99 @@
+package com.top_serveurs.hytale.plugins.mcp.logs;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the lines of a file, or of a byte range of it, from the last one to the first, loading fixed-size
+ * blocks from the end so only the tail that is actually consumed gets read. Lines are decoded as UTF-8;
+ * the newline byte never occurs inside a multi-byte sequence, so splitting on raw bytes is safe.
+ */
+public class ReverseLineReader implements Closeable {
+    private static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    private final RandomAccessFile file;
+    private final long rangeStart;
+    private final byte[] block;
+    private long blockStart;
+    private int blockLength = 0;
+    private long lineEnd;
+
+    public ReverseLineReader(File file) throws IOException {
+        this(file, 0, -1, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Reads the lines between two byte offsets, which must both fall on line starts. A negative end
+     * stands for the current end of the file.
+     */
+    public ReverseLineReader(File file, long start, long end) throws IOException {
+        this(file, start, end, DEFAULT_BLOCK_SIZE);
+    }
+
+    ReverseLineReader(File file, long start, long end, int blockSize) throws IOException {
+        this.file = new RandomAccessFile(file, "r");
+        this.rangeStart = start;
+        this.block = new byte[blockSize];
+
+        long length = end < 0 ? this.file.length() : Math.min(end, this.file.length());
+        this.blockStart = length;
+        this.lineEnd = length;
+        // A trailing newline terminates the last line rather than starting an empty one
+        if (length > start && byteAt(length - 1) == '\n') {
+            lineEnd = length - 1;
+        } else if (length <= start) {
+            lineEnd = -1;
+        }
+    }
+
+    /**
+     * Returns the line preceding the previously returned one, or null once the start of the file is reached.
+     */
+    public String readLine() throws IOException {
+        if (lineEnd < rangeStart) {
+            return null;
+        }
+
+        long end = lineEnd;
+        long newline = end - 1;
+        while (newline >= rangeStart && byteAt(newline) != '\n') {
+            newline--;
+        }
+        lineEnd = newline;
+
+        long start = newline + 1;
+        int length = (int) (end - start);
+        if (length > 0 && byteAt(end - 1) == '\r') {
+            length--;
+        }
+
+        byte[] bytes = new byte[length];
+        if (start >= blockStart && start + length <= blockStart + blockLength) {
+            System.arraycopy(block, (int) (start - blockStart), bytes, 0, length);
+        } else {
+            file.seek(start);
+            file.readFully(bytes);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private byte byteAt(long position) throws IOException {
+        if (position < blockStart || position >= blockStart + blockLength) {
+            long end = position + 1;
+            long start = Math.max(rangeStart, end - block.length);
+            file.seek(start);
+            file.readFully(block, 0, (int) (end - start));
+            blockStart = start;
+            blockLength = (int) (end - start);
+        }
+        return block[(int) (position - blockStart)];
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
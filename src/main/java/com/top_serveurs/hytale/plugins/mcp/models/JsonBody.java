@@ -0,0 +1,13 @@
+package com.top_serveurs.hytale.plugins.mcp.models;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Writes a tool response straight to a streaming generator, without building a JSON tree first.
+ */
+@FunctionalInterface
+public interface JsonBody {
+    void write(JsonGenerator json) throws IOException;
+}
@@ -1,14 +1,27 @@
 package com.top_serveurs.hytale.plugins.mcp.models;
 
+import io.modelcontextprotocol.server.McpAsyncServerExchange;
+
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Tool arguments as decoded by the MCP transport. The typed getters read those values in place,
+ * so features never re-encode arguments through another JSON library.
+ */
 public class McpToolCall {
     private final String toolName;
     private final Map<String, Object> arguments;
+    private final McpAsyncServerExchange exchange;
 
     public McpToolCall(String toolName, Map<String, Object> arguments) {
+        this(toolName, arguments, null);
+    }
+
+    public McpToolCall(String toolName, Map<String, Object> arguments, McpAsyncServerExchange exchange) {
         this.toolName = toolName;
         this.arguments = arguments;
+        this.exchange = exchange;
     }
 
     public String getToolName() {
@@ -18,4 +31,75 @@ public class McpToolCall {
     public Map<String, Object> getArguments() {
         return arguments;
     }
+
+    /**
+     * The MCP session the call arrived on, used to push notifications back to the client. Null when the
+     * call did not come through the MCP server.
+     */
+    public McpAsyncServerExchange getExchange() {
+        return exchange;
+    }
+
+    public String getString(String key) {
+        Object value = arguments.get(key);
+        return value != null ? value.toString() : null;
+    }
+
+    public Integer getInteger(String key) {
+        return asInteger(arguments.get(key));
+    }
+
+    public Double getDouble(String key) {
+        return asDouble(arguments.get(key));
+    }
+
+    public Boolean getBoolean(String key) {
+        Object value = arguments.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return Boolean.parseBoolean(value.toString());
+    }
+
+    public List<?> getList(String key) {
+        Object value = arguments.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof List)) {
+            throw new IllegalArgumentException(key + " must be an array");
+        }
+        return (List<?>) value;
+    }
+
+    public static Integer asInteger(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        try {
+            return Integer.parseInt(value.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public static Double asDouble(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        try {
+            return Double.parseDouble(value.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
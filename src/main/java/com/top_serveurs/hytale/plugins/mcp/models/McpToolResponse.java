@@ -1,6 +1,14 @@
 package com.top_serveurs.hytale.plugins.mcp.models;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
 public class McpToolResponse {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private final String content;
     private final boolean isError;
 
@@ -13,6 +21,16 @@ public class McpToolResponse {
         return new McpToolResponse(content, false);
     }
 
+    public static McpToolResponse json(JsonBody body) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(writer)) {
+            body.write(json);
+        } catch (IOException e) {
+            return error("Failed to write response: " + e.getMessage());
+        }
+        return success(writer.toString());
+    }
+
     public static McpToolResponse error(String error) {
         return new McpToolResponse(error, true);
     }
@@ -0,0 +1,174 @@
+package com.top_serveurs.hytale.plugins.mcp.players;
+
+import com.top_serveurs.hytale.plugins.mcp.world.ChunkMath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Immutable snapshot of player positions, bucketed per world by chunk column. Radius and box
+ * queries only visit the chunks the shape overlaps, so their cost follows the number of nearby
+ * players rather than the number of players online.
+ */
+public class PlayerGrid {
+    public static final PlayerGrid EMPTY = new PlayerGrid(Map.of(), 0);
+
+    private final Map<UUID, Map<Long, List<Entry>>> worlds;
+    private final long timestamp;
+
+    private PlayerGrid(Map<UUID, Map<Long, List<Entry>>> worlds, long timestamp) {
+        this.worlds = worlds;
+        this.timestamp = timestamp;
+    }
+
+    public static Builder builder(long timestamp) {
+        return new Builder(timestamp);
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Players within radius of a point, nearest first.
+     */
+    public List<Entry> withinRadius(UUID worldUuid, double x, double y, double z, double radius) {
+        double radiusSquared = radius * radius;
+        List<Entry> result = new ArrayList<>();
+        visit(worldUuid, x - radius, z - radius, x + radius, z + radius, entry -> {
+            if (entry.distanceSquared(x, y, z) <= radiusSquared) {
+                result.add(entry);
+            }
+        });
+        result.sort((a, b) -> Double.compare(a.distanceSquared(x, y, z), b.distanceSquared(x, y, z)));
+        return result;
+    }
+
+    /**
+     * Players inside an axis-aligned box, bounds inclusive.
+     */
+    public List<Entry> withinBox(UUID worldUuid, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        List<Entry> result = new ArrayList<>();
+        visit(worldUuid, minX, minZ, maxX, maxZ, entry -> {
+            if (entry.x >= minX && entry.x <= maxX
+                && entry.y >= minY && entry.y <= maxY
+                && entry.z >= minZ && entry.z <= maxZ) {
+                result.add(entry);
+            }
+        });
+        return result;
+    }
+
+    private void visit(UUID worldUuid, double minX, double minZ, double maxX, double maxZ, Consumer<Entry> visitor) {
+        Map<Long, List<Entry>> chunks = worlds.get(worldUuid);
+        if (chunks == null || minX > maxX || minZ > maxZ) {
+            return;
+        }
+        long minChunkX = chunkOf(minX);
+        long maxChunkX = chunkOf(maxX);
+        long minChunkZ = chunkOf(minZ);
+        long maxChunkZ = chunkOf(maxZ);
+
+        // A shape wider than the occupied area is cheaper to answer from the occupied chunks
+        long span = (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        if (span < 0 || span > chunks.size()) {
+            for (List<Entry> bucket : chunks.values()) {
+                bucket.forEach(visitor);
+            }
+            return;
+        }
+
+        for (long cx = minChunkX; cx <= maxChunkX; cx++) {
+            for (long cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                List<Entry> bucket = chunks.get(key((int) cx, (int) cz));
+                if (bucket != null) {
+                    bucket.forEach(visitor);
+                }
+            }
+        }
+    }
+
+    private static long chunkOf(double coordinate) {
+        double clamped = Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, Math.floor(coordinate)));
+        return ChunkMath.toChunk((int) clamped);
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    public static class Builder {
+        private final Map<UUID, Map<Long, List<Entry>>> worlds = new HashMap<>();
+        private final long timestamp;
+
+        private Builder(long timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        public Builder add(UUID worldUuid, UUID uuid, String name, double x, double y, double z) {
+            long chunk = key((int) chunkOf(x), (int) chunkOf(z));
+            worlds.computeIfAbsent(worldUuid, w -> new HashMap<>())
+                .computeIfAbsent(chunk, c -> new ArrayList<>(2))
+                .add(new Entry(worldUuid, uuid, name, x, y, z));
+            return this;
+        }
+
+        public PlayerGrid build() {
+            return new PlayerGrid(Collections.unmodifiableMap(worlds), timestamp);
+        }
+    }
+
+    public static class Entry {
+        private final UUID worldUuid;
+        private final UUID uuid;
+        private final String name;
+        private final double x;
+        private final double y;
+        private final double z;
+
+        private Entry(UUID worldUuid, UUID uuid, String name, double x, double y, double z) {
+            this.worldUuid = worldUuid;
+            this.uuid = uuid;
+            this.name = name;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        public double distanceSquared(double px, double py, double pz) {
+            double dx = x - px;
+            double dy = y - py;
+            double dz = z - pz;
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        public UUID getWorldUuid() {
+            return worldUuid;
+        }
+
+        public UUID getUuid() {
+            return uuid;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getX() {
+            return x;
+        }
+
+        public double getY() {
+            return y;
+        }
+
+        public double getZ() {
+            return z;
+        }
+    }
+}
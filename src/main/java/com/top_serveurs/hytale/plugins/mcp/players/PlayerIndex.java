@@ -0,0 +1,133 @@
+package com.top_serveurs.hytale.plugins.mcp.players;
+
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Connected players keyed by UUID and by lowercased username, kept up to date from connect and
+ * disconnect events so player-targeted tools resolve a name or UUID without scanning the universe.
+ * Joins and leaves also advance a roster version, so pollers can ask for what changed since the
+ * version they last saw. Lookups are lock-free; updates are serialized with the roster log.
+ */
+public class PlayerIndex {
+    private static final int ROSTER_LOG_SIZE = 4096;
+
+    private final Map<UUID, PlayerRef> byUuid = new ConcurrentHashMap<>();
+    private final Map<String, PlayerRef> byName = new ConcurrentHashMap<>();
+    // Versions start from the clock so a version handed out before a restart is older than the log
+    private final RosterLog rosterLog = new RosterLog(ROSTER_LOG_SIZE, System.currentTimeMillis() * 1000);
+
+    public void seed(Collection<PlayerRef> players) {
+        if (players == null) {
+            return;
+        }
+        for (PlayerRef player : players) {
+            add(player);
+        }
+    }
+
+    public synchronized void add(PlayerRef player) {
+        if (player == null || player.getUuid() == null) {
+            return;
+        }
+        PlayerRef previous = byUuid.put(player.getUuid(), player);
+        if (previous != null && previous.getUsername() != null) {
+            byName.remove(nameKey(previous.getUsername()), previous);
+        }
+        if (player.getUsername() != null) {
+            byName.put(nameKey(player.getUsername()), player);
+        }
+        if (previous == null) {
+            rosterLog.record(true, player.getUuid(), player.getUsername());
+        }
+    }
+
+    public synchronized void remove(PlayerRef player) {
+        if (player == null || player.getUuid() == null) {
+            return;
+        }
+        // A reconnect may already have replaced the entry, so only drop the ref that left
+        PlayerRef current = byUuid.get(player.getUuid());
+        if (current == null) {
+            return;
+        }
+        if (current == player || current.equals(player)) {
+            byUuid.remove(player.getUuid(), current);
+            if (current.getUsername() != null) {
+                byName.remove(nameKey(current.getUsername()), current);
+            }
+            rosterLog.record(false, current.getUuid(), current.getUsername());
+        }
+    }
+
+    /**
+     * Looks a player up by UUID first, then by case-insensitive username.
+     */
+    public PlayerRef find(String identifier) {
+        if (identifier == null || identifier.isEmpty()) {
+            return null;
+        }
+        if (identifier.length() == 36) {
+            try {
+                PlayerRef player = byUuid.get(UUID.fromString(identifier));
+                if (player != null) {
+                    return player;
+                }
+            } catch (IllegalArgumentException e) {
+            }
+        }
+        return byName.get(nameKey(identifier));
+    }
+
+    public PlayerRef get(UUID uuid) {
+        return byUuid.get(uuid);
+    }
+
+    public Collection<PlayerRef> getPlayers() {
+        return Collections.unmodifiableCollection(byUuid.values());
+    }
+
+    public int size() {
+        return byUuid.size();
+    }
+
+    public synchronized Roster getRoster() {
+        return new Roster(rosterLog.getVersion(), List.copyOf(byUuid.values()));
+    }
+
+    /**
+     * Net joins and leaves after a roster version, or null when the caller must reload the full roster.
+     */
+    public synchronized RosterLog.Delta changesSince(long version) {
+        return rosterLog.changesSince(version);
+    }
+
+    private static String nameKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    public static class Roster {
+        private final long version;
+        private final List<PlayerRef> players;
+
+        private Roster(long version, List<PlayerRef> players) {
+            this.version = version;
+            this.players = players;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public List<PlayerRef> getPlayers() {
+            return players;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.top_serveurs.hytale.plugins.mcp.players;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.math.vector.Transform;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.math.vector.Vector3f;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the indexed players on a background thread. At the refresh interval their positions are
+ * published as a {@link PlayerGrid}, so readers always see a complete snapshot and never touch live
+ * player state. At the trail interval each player's position and rotation is appended to their
+ * {@link PlayerTrail}.
+ */
+public class PlayerTracker {
+    private final HytaleLogger logger;
+    private final PlayerIndex playerIndex;
+    private final long refreshIntervalMs;
+    private final long trailSampleIntervalMs;
+    private final int trailLength;
+    private final ScheduledExecutorService executor;
+    private final Map<UUID, PlayerTrail> trails = new ConcurrentHashMap<>();
+    private volatile PlayerGrid grid = PlayerGrid.EMPTY;
+
+    public PlayerTracker(HytaleLogger logger, PlayerIndex playerIndex, McpConfig.PlayerTrackingConfig config) {
+        this.logger = logger;
+        this.playerIndex = playerIndex;
+        this.refreshIntervalMs = Math.max(50, config.getRefreshIntervalMs());
+        this.trailSampleIntervalMs = Math.max(50, config.getTrailSampleIntervalMs());
+        this.trailLength = Math.max(1, config.getTrailLength());
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "MCP-PlayerTracker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (Exception e) {
+                logger.atWarning().withCause(e).log("[PLAYER_TRACKER] Failed to refresh player positions");
+            }
+        }, 0, refreshIntervalMs, TimeUnit.MILLISECONDS);
+        executor.scheduleAtFixedRate(() -> {
+            try {
+                sampleTrails();
+            } catch (Exception e) {
+                logger.atWarning().withCause(e).log("[PLAYER_TRACKER] Failed to sample player trails");
+            }
+        }, 0, trailSampleIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public PlayerGrid getGrid() {
+        return grid;
+    }
+
+    public PlayerTrail getTrail(UUID uuid) {
+        return trails.get(uuid);
+    }
+
+    public long getTrailSampleIntervalMs() {
+        return trailSampleIntervalMs;
+    }
+
+    void refresh() {
+        long now = System.currentTimeMillis();
+        PlayerGrid.Builder builder = PlayerGrid.builder(now);
+        for (PlayerRef player : playerIndex.getPlayers()) {
+            Transform transform = player.getTransform();
+            if (transform == null || player.getWorldUuid() == null) {
+                continue;
+            }
+            Vector3d pos = transform.getPosition();
+            builder.add(player.getWorldUuid(), player.getUuid(), player.getUsername(), pos.getX(), pos.getY(), pos.getZ());
+        }
+        grid = builder.build();
+    }
+
+    void sampleTrails() {
+        long now = System.currentTimeMillis();
+        for (PlayerRef player : playerIndex.getPlayers()) {
+            Transform transform = player.getTransform();
+            if (transform == null) {
+                continue;
+            }
+            Vector3d pos = transform.getPosition();
+            Vector3f rotation = transform.getRotation();
+            trails.computeIfAbsent(player.getUuid(), uuid -> new PlayerTrail(trailLength))
+                .record(now, player.getWorldUuid(), pos.getX(), pos.getY(), pos.getZ(), rotation.getY(), rotation.getX());
+        }
+        // Trails of players who left are dropped once they are no longer indexed
+        trails.keySet().removeIf(uuid -> playerIndex.get(uuid) == null);
+    }
+}
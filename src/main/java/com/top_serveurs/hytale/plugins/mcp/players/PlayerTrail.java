@@ -0,0 +1,135 @@
+package com.top_serveurs.hytale.plugins.mcp.players;
+
+import java.util.UUID;
+
+/**
+ * Fixed-size ring buffer of one player's recent positions and rotations. Samples are stored in
+ * parallel primitive arrays, so recording allocates nothing once the buffer exists.
+ */
+public class PlayerTrail {
+    private final long[] times;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    private final float[] yaws;
+    private final float[] pitches;
+    private final UUID[] worlds;
+    private int head = 0;
+    private int size = 0;
+
+    public PlayerTrail(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Trail capacity must be at least 1");
+        }
+        this.times = new long[capacity];
+        this.xs = new double[capacity];
+        this.ys = new double[capacity];
+        this.zs = new double[capacity];
+        this.yaws = new float[capacity];
+        this.pitches = new float[capacity];
+        this.worlds = new UUID[capacity];
+    }
+
+    public synchronized void record(long time, UUID worldUuid, double x, double y, double z, float yaw, float pitch) {
+        times[head] = time;
+        worlds[head] = worldUuid;
+        xs[head] = x;
+        ys[head] = y;
+        zs[head] = z;
+        yaws[head] = yaw;
+        pitches[head] = pitch;
+        head = (head + 1) % times.length;
+        if (size < times.length) {
+            size++;
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Copies the newest samples recorded at or after {@code since}, at most {@code limit} of them,
+     * oldest first.
+     */
+    public synchronized Snapshot snapshot(long since, int limit) {
+        int capacity = times.length;
+        int oldest = (head - size + capacity) % capacity;
+
+        // Samples are in time order, so count back from the newest until one is too old
+        int count = 0;
+        while (count < size && count < limit) {
+            int index = (head - 1 - count + capacity) % capacity;
+            if (times[index] < since) {
+                break;
+            }
+            count++;
+        }
+
+        Snapshot snapshot = new Snapshot(count);
+        int start = (oldest + size - count) % capacity;
+        for (int i = 0; i < count; i++) {
+            int index = (start + i) % capacity;
+            snapshot.times[i] = times[index];
+            snapshot.worlds[i] = worlds[index];
+            snapshot.xs[i] = xs[index];
+            snapshot.ys[i] = ys[index];
+            snapshot.zs[i] = zs[index];
+            snapshot.yaws[i] = yaws[index];
+            snapshot.pitches[i] = pitches[index];
+        }
+        return snapshot;
+    }
+
+    public static class Snapshot {
+        private final long[] times;
+        private final double[] xs;
+        private final double[] ys;
+        private final double[] zs;
+        private final float[] yaws;
+        private final float[] pitches;
+        private final UUID[] worlds;
+
+        private Snapshot(int size) {
+            this.times = new long[size];
+            this.xs = new double[size];
+            this.ys = new double[size];
+            this.zs = new double[size];
+            this.yaws = new float[size];
+            this.pitches = new float[size];
+            this.worlds = new UUID[size];
+        }
+
+        public int size() {
+            return times.length;
+        }
+
+        public long getTime(int index) {
+            return times[index];
+        }
+
+        public UUID getWorldUuid(int index) {
+            return worlds[index];
+        }
+
+        public double getX(int index) {
+            return xs[index];
+        }
+
+        public double getY(int index) {
+            return ys[index];
+        }
+
+        public double getZ(int index) {
+            return zs[index];
+        }
+
+        public float getYaw(int index) {
+            return yaws[index];
+        }
+
+        public float getPitch(int index) {
+            return pitches[index];
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.top_serveurs.hytale.plugins.mcp.players;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bounded log of roster changes, each stamped with the roster version it produced. Callers holding
+ * an older version get the net joins and leaves since then, or null once that version has fallen out
+ * of the log and they need the full roster again. Not thread-safe, {@link PlayerIndex} guards it.
+ */
+public class RosterLog {
+    private final Deque<Change> changes = new ArrayDeque<>();
+    private final int capacity;
+    private long version;
+
+    public RosterLog(int capacity, long initialVersion) {
+        this.capacity = capacity;
+        this.version = initialVersion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long record(boolean joined, UUID uuid, String name) {
+        version++;
+        changes.addLast(new Change(version, joined, uuid, name));
+        if (changes.size() > capacity) {
+            changes.removeFirst();
+        }
+        return version;
+    }
+
+    /**
+     * Net changes after {@code sinceVersion}, or null when the log no longer reaches back that far
+     * or the version was never issued.
+     */
+    public Delta changesSince(long sinceVersion) {
+        if (sinceVersion > version) {
+            return null;
+        }
+        long oldestKnown = changes.isEmpty() ? version : changes.peekFirst().version - 1;
+        if (sinceVersion < oldestKnown) {
+            return null;
+        }
+
+        // First and last change per player decide whether they were present before and are now
+        Map<UUID, Change[]> perPlayer = new LinkedHashMap<>();
+        for (Change change : changes) {
+            if (change.version <= sinceVersion) {
+                continue;
+            }
+            Change[] span = perPlayer.computeIfAbsent(change.uuid, u -> new Change[] {change, change});
+            span[1] = change;
+        }
+
+        List<Change> joined = new ArrayList<>();
+        List<Change> left = new ArrayList<>();
+        for (Change[] span : perPlayer.values()) {
+            boolean wasPresent = !span[0].joined;
+            boolean isPresent = span[1].joined;
+            if (isPresent && !wasPresent) {
+                joined.add(span[1]);
+            } else if (wasPresent && !isPresent) {
+                left.add(span[1]);
+            }
+        }
+        return new Delta(version, joined, left);
+    }
+
+    public static class Change {
+        private final long version;
+        private final boolean joined;
+        private final UUID uuid;
+        private final String name;
+
+        private Change(long version, boolean joined, UUID uuid, String name) {
+            this.version = version;
+            this.joined = joined;
+            this.uuid = uuid;
+            this.name = name;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public UUID getUuid() {
+            return uuid;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class Delta {
+        private final long version;
+        private final List<Change> joined;
+        private final List<Change> left;
+
+        private Delta(long version, List<Change> joined, List<Change> left) {
+            this.version = version;
+            this.joined = joined;
+            this.left = left;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public List<Change> getJoined() {
+            return joined;
+        }
+
+        public List<Change> getLeft() {
+            return left;
+        }
+    }
+}
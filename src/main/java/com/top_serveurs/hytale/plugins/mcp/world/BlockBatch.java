@@ -0,0 +1,56 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+/**
+ * Block placements stored as parallel primitive arrays. Block types are indices into a palette
+ * of distinct block names, so a uniform build carries each name once.
+ */
+public class BlockBatch {
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] zs;
+    private final int[] paletteIndices;
+    private final String[] palette;
+
+    public BlockBatch(int[] xs, int[] ys, int[] zs, int[] paletteIndices, String[] palette) {
+        if (xs.length != ys.length || xs.length != zs.length || xs.length != paletteIndices.length) {
+            throw new IllegalArgumentException("Coordinate and palette index arrays must have the same length");
+        }
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.paletteIndices = paletteIndices;
+        this.palette = palette;
+    }
+
+    public int size() {
+        return xs.length;
+    }
+
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    public int getZ(int index) {
+        return zs[index];
+    }
+
+    public int getPaletteIndex(int index) {
+        return paletteIndices[index];
+    }
+
+    public String getBlockType(int index) {
+        return palette[paletteIndices[index]];
+    }
+
+    public int getPaletteSize() {
+        return palette.length;
+    }
+
+    public String getPaletteEntry(int paletteIndex) {
+        return palette[paletteIndex];
+    }
+}
@@ -0,0 +1,46 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches block name lookups against the block type asset map. Only names that resolve are cached, which
+ * bounds the cache by the number of block types; palette names come from clients and could otherwise
+ * grow it without limit. The cache must be cleared whenever block type assets are loaded or removed.
+ */
+public class BlockPalette {
+    private final Map<String, BlockType> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the block type registered under this name, or null when there is none.
+     */
+    public BlockType resolve(String name) {
+        BlockType blockType = resolved.get(name);
+        if (blockType != null) {
+            return blockType;
+        }
+        blockType = BlockType.getAssetMap().getAsset(name);
+        if (blockType == null || blockType == BlockType.EMPTY) {
+            return null;
+        }
+        resolved.put(name, blockType);
+        return blockType;
+    }
+
+    /**
+     * Resolves every entry of a batch palette once, in palette order. Unknown entries are null.
+     */
+    public BlockType[] resolveAll(BlockBatch batch) {
+        BlockType[] blockTypes = new BlockType[batch.getPaletteSize()];
+        for (int p = 0; p < blockTypes.length; p++) {
+            blockTypes[p] = resolve(batch.getPaletteEntry(p));
+        }
+        return blockTypes;
+    }
+
+    public void invalidate() {
+        resolved.clear();
+    }
+}
@@ -0,0 +1,161 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes set_blocks_batch payloads into a {@link BlockBatch}. Besides the plain list of block objects,
+ * the compact encoding is a palette of block names plus a base64 string of fixed-size big-endian
+ * records, each one a run of identical blocks along an axis.
+ * <pre>
+ * int32 x | int32 y | int32 z | uint16 paletteIndex | uint16 runLength
+ * </pre>
+ */
+public final class BlockPayloadDecoder {
+    public static final int RECORD_SIZE = 16;
+    // Palette indices are uint16, so no record can refer past this many entries
+    public static final int MAX_PALETTE_SIZE = 1 << 16;
+
+    private BlockPayloadDecoder() {
+    }
+
+    /**
+     * Decodes the compact form. Records are what the client sends and count against {@code maxRecords};
+     * the blocks they expand to count against the separate {@code maxBlocks}.
+     */
+    public static BlockBatch decode(List<String> palette, String packed, String axis, int maxRecords, int maxBlocks) {
+        if (palette == null || palette.isEmpty()) {
+            throw new IllegalArgumentException("palette is required with packed blocks");
+        }
+
+        byte[] data;
+        try {
+            data = Base64.getDecoder().decode(packed);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("packed must be valid base64");
+        }
+        if (data.length == 0 || data.length % RECORD_SIZE != 0) {
+            throw new IllegalArgumentException("packed must contain whole " + RECORD_SIZE + "-byte records");
+        }
+
+        int axisIndex = parseAxis(axis);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        int records = data.length / RECORD_SIZE;
+        if (records > maxRecords) {
+            throw new IllegalArgumentException("Maximum " + maxRecords + " packed records per request");
+        }
+        if (palette.size() > MAX_PALETTE_SIZE) {
+            throw new IllegalArgumentException("Maximum " + MAX_PALETTE_SIZE + " palette entries");
+        }
+        // Every entry is resolved before writing, so entries no record can use would only cost lookups
+        if (palette.size() > records) {
+            throw new IllegalArgumentException("palette has " + palette.size() + " entries but packed has only " + records + " records");
+        }
+
+        // First pass validates records and sizes the arrays exactly
+        long total = 0;
+        for (int r = 0; r < records; r++) {
+            int base = r * RECORD_SIZE;
+            int start = buffer.getInt(base + axisIndex * 4);
+            int paletteIndex = Short.toUnsignedInt(buffer.getShort(base + 12));
+            int runLength = Short.toUnsignedInt(buffer.getShort(base + 14));
+            if (paletteIndex >= palette.size()) {
+                throw new IllegalArgumentException("Record " + r + " uses palette index " + paletteIndex + " out of " + palette.size());
+            }
+            if (runLength == 0) {
+                throw new IllegalArgumentException("Record " + r + " has a zero run length");
+            }
+            try {
+                // Checking the last block of the run once covers every step of the expansion below
+                Math.addExact(start, runLength - 1);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Record " + r + " runs past the coordinate range");
+            }
+            total += runLength;
+            if (total > maxBlocks) {
+                throw new IllegalArgumentException("Maximum " + maxBlocks + " blocks per packed request");
+            }
+        }
+
+        int size = (int) total;
+        int[] xs = new int[size];
+        int[] ys = new int[size];
+        int[] zs = new int[size];
+        int[] paletteIndices = new int[size];
+
+        int i = 0;
+        for (int r = 0; r < records; r++) {
+            int base = r * RECORD_SIZE;
+            int x = buffer.getInt(base);
+            int y = buffer.getInt(base + 4);
+            int z = buffer.getInt(base + 8);
+            int paletteIndex = Short.toUnsignedInt(buffer.getShort(base + 12));
+            int runLength = Short.toUnsignedInt(buffer.getShort(base + 14));
+
+            for (int step = 0; step < runLength; step++) {
+                xs[i] = axisIndex == 0 ? x + step : x;
+                ys[i] = axisIndex == 1 ? y + step : y;
+                zs[i] = axisIndex == 2 ? z + step : z;
+                paletteIndices[i] = paletteIndex;
+                i++;
+            }
+        }
+
+        return new BlockBatch(xs, ys, zs, paletteIndices, palette.toArray(new String[0]));
+    }
+
+    /**
+     * Decodes the plain form, a list of {x, y, z, blockType} objects as parsed by the transport.
+     */
+    public static BlockBatch decodeObjects(List<?> blocks, int maxBlocks) {
+        if (blocks.isEmpty()) {
+            throw new IllegalArgumentException("blocks array cannot be empty");
+        }
+        if (blocks.size() > maxBlocks) {
+            throw new IllegalArgumentException("Maximum " + maxBlocks + " blocks per request");
+        }
+
+        int size = blocks.size();
+        int[] xs = new int[size];
+        int[] ys = new int[size];
+        int[] zs = new int[size];
+        int[] paletteIndices = new int[size];
+        Map<String, Integer> palette = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            Object entry = blocks.get(i);
+            Map<?, ?> block = entry instanceof Map ? (Map<?, ?>) entry : Map.of();
+            Integer x = McpToolCall.asInteger(block.get("x"));
+            Integer y = McpToolCall.asInteger(block.get("y"));
+            Integer z = McpToolCall.asInteger(block.get("z"));
+            Object blockType = block.get("blockType");
+            if (x == null || y == null || z == null || blockType == null) {
+                throw new IllegalArgumentException("Invalid block at index " + i + ": x, y, z and blockType are required");
+            }
+            xs[i] = x;
+            ys[i] = y;
+            zs[i] = z;
+            paletteIndices[i] = palette.computeIfAbsent(blockType.toString(), name -> palette.size());
+        }
+
+        return new BlockBatch(xs, ys, zs, paletteIndices, palette.keySet().toArray(new String[0]));
+    }
+
+    private static int parseAxis(String axis) {
+        if (axis == null || axis.isEmpty() || axis.equalsIgnoreCase("x")) {
+            return 0;
+        }
+        if (axis.equalsIgnoreCase("y")) {
+            return 1;
+        }
+        if (axis.equalsIgnoreCase("z")) {
+            return 2;
+        }
+        throw new IllegalArgumentException("axis must be x, y or z");
+    }
+}
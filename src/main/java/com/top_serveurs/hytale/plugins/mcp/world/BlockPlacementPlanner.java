@@ -0,0 +1,115 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+import java.util.Arrays;
+
+public final class BlockPlacementPlanner {
+    private static final int LOCAL_MASK = ChunkMath.CHUNK_SIZE - 1;
+
+    private BlockPlacementPlanner() {
+    }
+
+    /**
+     * Returns the batch indices grouped by chunk column, and bottom-up inside each chunk so
+     * supporting blocks land before the blocks resting on them. Within one chunk, ordering by
+     * z then x is the same as ordering by the local coordinates, which need only a few bits.
+     */
+    public static int[] planByChunk(BlockBatch batch) {
+        int size = batch.size();
+        if (size == 0) {
+            return new int[0];
+        }
+
+        int minChunkX = Integer.MAX_VALUE, maxChunkX = Integer.MIN_VALUE;
+        int minChunkZ = Integer.MAX_VALUE, maxChunkZ = Integer.MIN_VALUE;
+        int minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            int chunkX = ChunkMath.toChunk(batch.getX(i));
+            int chunkZ = ChunkMath.toChunk(batch.getZ(i));
+            int y = batch.getY(i);
+            minChunkX = Math.min(minChunkX, chunkX);
+            maxChunkX = Math.max(maxChunkX, chunkX);
+            minChunkZ = Math.min(minChunkZ, chunkZ);
+            maxChunkZ = Math.max(maxChunkZ, chunkZ);
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+        }
+
+        int chunkZBits = bitsFor((long) maxChunkZ - minChunkZ);
+        int yBits = bitsFor((long) maxY - minY);
+        int indexBits = bitsFor(size - 1);
+        int totalBits = bitsFor((long) maxChunkX - minChunkX) + chunkZBits + yBits + 2 * ChunkMath.CHUNK_SHIFT + indexBits;
+        if (totalBits > 63) {
+            return planByChunkInPasses(batch);
+        }
+
+        // One primitive key per block: chunk x, chunk z, y, local z, local x, then the index itself
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            long key = ChunkMath.toChunk(batch.getX(i)) - minChunkX;
+            key = key << chunkZBits | (ChunkMath.toChunk(batch.getZ(i)) - minChunkZ);
+            key = key << yBits | ((long) batch.getY(i) - minY);
+            key = key << ChunkMath.CHUNK_SHIFT | (batch.getZ(i) & LOCAL_MASK);
+            key = key << ChunkMath.CHUNK_SHIFT | (batch.getX(i) & LOCAL_MASK);
+            keys[i] = key << indexBits | i;
+        }
+        Arrays.sort(keys);
+
+        long indexMask = (1L << indexBits) - 1;
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = (int) (keys[i] & indexMask);
+        }
+        return order;
+    }
+
+    public static int[] originalOrder(BlockBatch batch) {
+        int[] order = new int[batch.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    /**
+     * Same order for batches spread too far to pack into one key: one stable pass per field, from
+     * the least significant up.
+     */
+    private static int[] planByChunkInPasses(BlockBatch batch) {
+        int size = batch.size();
+        int[] local = new int[size];
+        int[] ys = new int[size];
+        int[] chunkZs = new int[size];
+        int[] chunkXs = new int[size];
+        for (int i = 0; i < size; i++) {
+            local[i] = (batch.getZ(i) & LOCAL_MASK) << ChunkMath.CHUNK_SHIFT | (batch.getX(i) & LOCAL_MASK);
+            ys[i] = batch.getY(i);
+            chunkZs[i] = ChunkMath.toChunk(batch.getZ(i));
+            chunkXs[i] = ChunkMath.toChunk(batch.getX(i));
+        }
+
+        int[] order = originalOrder(batch);
+        order = stableSort(order, local);
+        order = stableSort(order, ys);
+        order = stableSort(order, chunkZs);
+        return stableSort(order, chunkXs);
+    }
+
+    // Sorts by value, breaking ties by the current position so earlier passes are preserved
+    private static int[] stableSort(int[] order, int[] values) {
+        long[] keys = new long[order.length];
+        for (int p = 0; p < order.length; p++) {
+            keys[p] = (long) values[order[p]] << 32 | p;
+        }
+        Arrays.sort(keys);
+
+        int[] sorted = new int[order.length];
+        for (int p = 0; p < order.length; p++) {
+            sorted[p] = order[(int) keys[p]];
+        }
+        return sorted;
+    }
+
+    private static int bitsFor(long maxValue) {
+        return 64 - Long.numberOfLeadingZeros(maxValue);
+    }
+}
@@ -0,0 +1,21 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+public final class ChunkMath {
+    public static final int CHUNK_SIZE = 32;
+    public static final int CHUNK_SHIFT = 5;
+
+    private ChunkMath() {
+    }
+
+    public static int toChunk(int blockCoordinate) {
+        return blockCoordinate >> CHUNK_SHIFT;
+    }
+
+    public static int chunkMin(int chunkCoordinate) {
+        return chunkCoordinate << CHUNK_SHIFT;
+    }
+
+    public static int chunkMax(int chunkCoordinate) {
+        return chunkMin(chunkCoordinate) + CHUNK_SIZE - 1;
+    }
+}
@@ -0,0 +1,116 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+
+/**
+ * Fills a box with one block below and including a surface height and with another above it.
+ * The box is walked chunk by chunk, bottom-up within each chunk, and voxels that already hold
+ * the expected block are skipped so untouched columns cause no lighting or network updates.
+ */
+public class RegionFillJob implements WorldWriteJob<RegionFillJob> {
+    private final int minX;
+    private final int maxX;
+    private final int minY;
+    private final int maxY;
+    private final int minZ;
+    private final int maxZ;
+    private final int surfaceY;
+    private final String fillBlock;
+    private final int fillIndex;
+    private final String clearBlock;
+    private final int clearIndex;
+    private final int minChunkX;
+    private final int chunksX;
+    private final int chunkCount;
+
+    private int chunk = 0;
+    private int y;
+    private int column = 0;
+
+    private int blocksPlaced = 0;
+    private int blocksCleared = 0;
+    private int blocksUnchanged = 0;
+
+    public RegionFillJob(int minX, int maxX, int minY, int maxY, int minZ, int maxZ, int surfaceY,
+                         String fillBlock, int fillIndex, String clearBlock, int clearIndex) {
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.minZ = minZ;
+        this.maxZ = maxZ;
+        this.surfaceY = surfaceY;
+        this.fillBlock = fillBlock;
+        this.fillIndex = fillIndex;
+        this.clearBlock = clearBlock;
+        this.clearIndex = clearIndex;
+        this.minChunkX = ChunkMath.toChunk(minX);
+        this.chunksX = ChunkMath.toChunk(maxX) - minChunkX + 1;
+        this.chunkCount = chunksX * (ChunkMath.toChunk(maxZ) - ChunkMath.toChunk(minZ) + 1);
+        this.y = minY;
+    }
+
+    @Override
+    public boolean step(World world, WriteBudget budget) {
+        while (chunk < chunkCount) {
+            int chunkX = minChunkX + chunk % chunksX;
+            int chunkZ = ChunkMath.toChunk(minZ) + chunk / chunksX;
+            int x0 = Math.max(minX, ChunkMath.chunkMin(chunkX));
+            int x1 = Math.min(maxX, ChunkMath.chunkMax(chunkX));
+            int z0 = Math.max(minZ, ChunkMath.chunkMin(chunkZ));
+            int z1 = Math.min(maxZ, ChunkMath.chunkMax(chunkZ));
+            int width = x1 - x0 + 1;
+            int columns = width * (z1 - z0 + 1);
+
+            while (y <= maxY) {
+                boolean below = y <= surfaceY;
+                int expectedIndex = below ? fillIndex : clearIndex;
+
+                while (column < columns) {
+                    if (budget.isExhausted()) {
+                        return false;
+                    }
+                    int x = x0 + column % width;
+                    int z = z0 + column / width;
+                    column++;
+
+                    if (world.getBlock(x, y, z) == expectedIndex) {
+                        blocksUnchanged++;
+                        continue;
+                    }
+
+                    budget.tryConsume();
+                    if (below) {
+                        world.setBlock(x, y, z, fillBlock, 0);
+                        blocksPlaced++;
+                    } else {
+                        world.setBlock(x, y, z, clearBlock, 0);
+                        blocksCleared++;
+                    }
+                }
+                column = 0;
+                y++;
+            }
+            y = minY;
+            chunk++;
+        }
+        return true;
+    }
+
+    @Override
+    public RegionFillJob result() {
+        return this;
+    }
+
+    public int getBlocksPlaced() {
+        return blocksPlaced;
+    }
+
+    public int getBlocksCleared() {
+        return blocksCleared;
+    }
+
+    public int getBlocksUnchanged() {
+        return blocksUnchanged;
+    }
+}
@@ -0,0 +1,85 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+/**
+ * Places the blocks of a batch following a placement order and records the outcome of every entry.
+ * Failures keep their message at the index of the failed entry, whatever order was used. Palette
+ * entries are resolved once, on the first step, rather than once per block.
+ */
+public class SetBlocksJob implements WorldWriteJob<SetBlocksJob> {
+    private final BlockBatch batch;
+    private final int[] order;
+    private final BlockPalette blockPalette;
+    private BlockType[] blockTypes;
+    private final String[] errors;
+    private int next = 0;
+    private int successCount = 0;
+    private int failureCount = 0;
+
+    public SetBlocksJob(BlockBatch batch, int[] order, BlockPalette blockPalette) {
+        if (order.length != batch.size()) {
+            throw new IllegalArgumentException("Placement order must cover the whole batch");
+        }
+        this.batch = batch;
+        this.order = order;
+        this.blockPalette = blockPalette;
+        this.errors = new String[batch.size()];
+    }
+
+    @Override
+    public boolean step(World world, WriteBudget budget) {
+        if (blockTypes == null) {
+            blockTypes = blockPalette.resolveAll(batch);
+        }
+
+        while (next < order.length && budget.tryConsume()) {
+            int i = order[next++];
+
+            BlockType blockType = blockTypes[batch.getPaletteIndex(i)];
+            if (blockType == null) {
+                fail(i, "Unknown block type: " + batch.getBlockType(i));
+                continue;
+            }
+
+            try {
+                world.setBlock(batch.getX(i), batch.getY(i), batch.getZ(i), blockType.getId(), 0);
+                successCount++;
+            } catch (Exception e) {
+                fail(i, e.getMessage());
+            }
+        }
+        return next >= order.length;
+    }
+
+    @Override
+    public SetBlocksJob result() {
+        return this;
+    }
+
+    private void fail(int index, String message) {
+        errors[index] = message != null ? message : "Unknown error";
+        failureCount++;
+    }
+
+    public BlockBatch getBatch() {
+        return batch;
+    }
+
+    public boolean isSuccess(int index) {
+        return errors[index] == null;
+    }
+
+    public String getError(int index) {
+        return errors[index];
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+}
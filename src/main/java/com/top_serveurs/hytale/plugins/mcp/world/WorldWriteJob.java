@@ -0,0 +1,14 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+
+public interface WorldWriteJob<T> {
+    /**
+     * Applies as many writes as the budget allows. Always called on the world thread.
+     *
+     * @return true once every write of the job has been applied
+     */
+    boolean step(World world, WriteBudget budget);
+
+    T result();
+}
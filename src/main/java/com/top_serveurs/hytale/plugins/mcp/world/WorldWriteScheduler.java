@@ -0,0 +1,177 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Spreads world writes over several ticks. Every world gets its own queue of jobs which is
+ * drained on the world thread, round-robin, until the per-tick block or time budget is spent.
+ * Unfinished jobs resume on the next tick and their future completes once the last write lands,
+ * on a separate executor so that building the response never runs inside the tick.
+ */
+public class WorldWriteScheduler {
+    private final HytaleLogger logger;
+    private final int blocksPerTick;
+    private final long nanosPerTick;
+    private final long tickIntervalMs;
+    private final ScheduledExecutorService scheduler;
+    private final Executor completionExecutor;
+    private final Map<World, WorldQueue> queues = new ConcurrentHashMap<>();
+    private volatile boolean shutdown = false;
+
+    public WorldWriteScheduler(HytaleLogger logger, McpConfig config) {
+        this(logger, config, task -> Schedulers.boundedElastic().schedule(task));
+    }
+
+    WorldWriteScheduler(HytaleLogger logger, McpConfig config, Executor completionExecutor) {
+        this.logger = logger;
+        this.completionExecutor = completionExecutor;
+        McpConfig.WriteBudgetConfig budgetConfig = config.getFeatures().getWriteBudget();
+        // A zero budget would start every tick exhausted and no job would ever finish
+        this.blocksPerTick = Math.max(1, budgetConfig.getBlocksPerTick());
+        this.nanosPerTick = TimeUnit.MILLISECONDS.toNanos(Math.max(1, budgetConfig.getMillisPerTick()));
+        this.tickIntervalMs = Math.max(1, budgetConfig.getTickIntervalMs());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "WorldWriteScheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public <T> CompletableFuture<T> submit(World world, WorldWriteJob<T> job) {
+        PendingJob<T> pending = new PendingJob<>(job, completionExecutor);
+        if (shutdown) {
+            pending.future.completeExceptionally(new CancellationException("World write scheduler shut down"));
+            return pending.future;
+        }
+        WorldQueue queue = queues.computeIfAbsent(world, WorldQueue::new);
+        queue.jobs.add(pending);
+        queue.scheduleDrain(false);
+        return pending.future;
+    }
+
+    /**
+     * Drops the queue of a world that is going away and fails its pending jobs, which would otherwise
+     * wait for ticks that never come.
+     */
+    public void removeWorld(World world) {
+        WorldQueue queue = queues.remove(world);
+        if (queue != null) {
+            queue.close("World " + world.getName() + " was removed");
+        }
+    }
+
+    public void shutdown() {
+        shutdown = true;
+        scheduler.shutdownNow();
+        for (WorldQueue queue : queues.values()) {
+            queue.close("World write scheduler shut down");
+        }
+        queues.clear();
+    }
+
+    private final class WorldQueue {
+        private final World world;
+        private final Queue<PendingJob<?>> jobs = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private volatile String closedReason;
+
+        private WorldQueue(World world) {
+            this.world = world;
+        }
+
+        private void close(String reason) {
+            closedReason = reason;
+            failPending();
+        }
+
+        private void failPending() {
+            PendingJob<?> pending;
+            while ((pending = jobs.poll()) != null) {
+                pending.future.completeExceptionally(new CancellationException(closedReason));
+            }
+        }
+
+        private void scheduleDrain(boolean nextTick) {
+            if (closedReason != null) {
+                failPending();
+                return;
+            }
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            if (!nextTick) {
+                world.execute(this::drain);
+                return;
+            }
+            try {
+                scheduler.schedule(() -> world.execute(this::drain), tickIntervalMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+
+        private void drain() {
+            if (closedReason != null) {
+                failPending();
+                return;
+            }
+            WriteBudget budget = new WriteBudget(blocksPerTick, nanosPerTick);
+
+            int jobsThisTick = jobs.size();
+            while (jobsThisTick-- > 0 && !budget.isExhausted()) {
+                PendingJob<?> pending = jobs.poll();
+                if (pending == null) {
+                    break;
+                }
+                if (!pending.step(world, budget, logger)) {
+                    jobs.add(pending);
+                }
+            }
+
+            scheduled.set(false);
+            if (closedReason != null) {
+                // Closed while a job was running, which put it back after the queue was emptied
+                failPending();
+            } else if (!jobs.isEmpty()) {
+                scheduleDrain(true);
+            }
+        }
+    }
+
+    private static final class PendingJob<T> {
+        private final WorldWriteJob<T> job;
+        private final Executor completionExecutor;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private PendingJob(WorldWriteJob<T> job, Executor completionExecutor) {
+            this.job = job;
+            this.completionExecutor = completionExecutor;
+        }
+
+        // Returns true when the job left the queue, either finished or failed
+        private boolean step(World world, WriteBudget budget, HytaleLogger logger) {
+            if (future.isDone()) {
+                return true;
+            }
+            try {
+                if (job.step(world, budget)) {
+                    completionExecutor.execute(() -> future.complete(job.result()));
+                    return true;
+                }
+                return false;
+            } catch (Throwable t) {
+                logger.atSevere().withCause(t).log("[WORLD_WRITE] Job failed");
+                completionExecutor.execute(() -> future.completeExceptionally(t));
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+public class WriteBudget {
+    private final long deadlineNanos;
+    private int remainingBlocks;
+
+    public WriteBudget(int maxBlocks, long maxNanos) {
+        this.remainingBlocks = maxBlocks;
+        this.deadlineNanos = System.nanoTime() + maxNanos;
+    }
+
+    public boolean tryConsume() {
+        if (isExhausted()) {
+            return false;
+        }
+        remainingBlocks--;
+        return true;
+    }
+
+    public boolean isExhausted() {
+        return remainingBlocks <= 0 || System.nanoTime() >= deadlineNanos;
+    }
+
+    public int getRemainingBlocks() {
+        return remainingBlocks;
+    }
+}
@@ -0,0 +1,106 @@
+package com.top_serveurs.hytale.plugins.mcp.auth;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class AuthThrottleTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private AuthThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        McpConfig.AuthConfig config = new McpConfig.AuthConfig();
+        config.setFailuresBeforeBan(3);
+        config.setBanSeconds(10);
+        config.setMaxBanSeconds(60);
+        throttle = new AuthThrottle(mock(HytaleLogger.class, RETURNS_DEEP_STUBS), config, clock::get);
+    }
+
+    private void fail(String address, int times) {
+        for (int i = 0; i < times; i++) {
+            throttle.recordFailure(address);
+        }
+    }
+
+    @Test
+    void testBanAfterThresholdOnly() {
+        fail("1.2.3.4", 2);
+        assertEquals(0, throttle.banRemaining("1.2.3.4"));
+        fail("1.2.3.4", 1);
+        assertEquals(10_000, throttle.banRemaining("1.2.3.4"));
+        assertEquals(0, throttle.banRemaining("5.6.7.8"));
+    }
+
+    @Test
+    void testBanDoublesUpToMaximum() {
+        fail("1.2.3.4", 4);
+        assertEquals(20_000, throttle.banRemaining("1.2.3.4"));
+        fail("1.2.3.4", 1);
+        assertEquals(40_000, throttle.banRemaining("1.2.3.4"));
+        fail("1.2.3.4", 50);
+        assertEquals(60_000, throttle.banRemaining("1.2.3.4"));
+    }
+
+    @Test
+    void testBanExpiresAndSuccessForgetsFailures() {
+        fail("1.2.3.4", 3);
+        clock.addAndGet(10_000);
+        assertEquals(0, throttle.banRemaining("1.2.3.4"));
+
+        throttle.recordSuccess("1.2.3.4");
+        fail("1.2.3.4", 2);
+        assertEquals(0, throttle.banRemaining("1.2.3.4"));
+    }
+
+    @Test
+    void testOldFailuresStopCounting() {
+        fail("1.2.3.4", 2);
+        clock.addAndGet(60 * 60 * 1000L);
+        fail("1.2.3.4", 2);
+        assertEquals(0, throttle.banRemaining("1.2.3.4"));
+    }
+
+    @Test
+    void testTrackedAddressesAreBounded() {
+        for (int i = 0; i < 12_000; i++) {
+            throttle.recordFailure("10.0." + (i / 256) + "." + (i % 256));
+            if (i % 1000 == 0) {
+                clock.addAndGet(60 * 60 * 1000L);
+            }
+        }
+        assertTrue(throttle.getTrackedAddresses() <= 10_000);
+    }
+
+    @Test
+    void testBoundHoldsWhenEveryAddressIsBanned() {
+        McpConfig.AuthConfig config = new McpConfig.AuthConfig();
+        config.setFailuresBeforeBan(1);
+        config.setBanSeconds(600);
+        throttle = new AuthThrottle(mock(HytaleLogger.class, RETURNS_DEEP_STUBS), config, clock::get);
+
+        int total = AuthThrottle.MAX_TRACKED_ADDRESSES + 100;
+        for (int i = 0; i < total; i++) {
+            throttle.recordFailure("10.0." + (i / 256) + "." + (i % 256));
+            clock.incrementAndGet();
+            assertTrue(throttle.getTrackedAddresses() <= AuthThrottle.MAX_TRACKED_ADDRESSES);
+        }
+        // Existing bans are kept; addresses beyond the bound are simply not tracked
+        assertTrue(throttle.banRemaining("10.0.0.0") > 0);
+        int last = total - 1;
+        assertEquals(0, throttle.banRemaining("10.0." + (last / 256) + "." + (last % 256)));
+
+        // Once bans run out the next sweep makes room again
+        clock.addAndGet(600 * 1000L);
+        throttle.recordFailure("192.168.0.1");
+        assertTrue(throttle.banRemaining("192.168.0.1") > 0);
+        assertEquals(1, throttle.getTrackedAddresses());
+    }
+}
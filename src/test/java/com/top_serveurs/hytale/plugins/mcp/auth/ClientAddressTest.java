@@ -0,0 +1,32 @@
+package com.top_serveurs.hytale.plugins.mcp.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClientAddressTest {
+
+    @Test
+    void testForwardedHeadersIgnoredFromUntrustedPeer() {
+        assertEquals("9.9.9.9", ClientAddress.resolve("9.9.9.9", "1.2.3.4", "5.6.7.8", Set.of()));
+        assertEquals("9.9.9.9", ClientAddress.resolve("9.9.9.9", "1.2.3.4", null, Set.of("10.0.0.1")));
+    }
+
+    @Test
+    void testRightmostUntrustedHopFromTrustedProxy() {
+        Set<String> trusted = Set.of("10.0.0.1", "10.0.0.2");
+        // The client can prepend anything, only the hop added by our own proxy counts
+        assertEquals("1.2.3.4", ClientAddress.resolve("10.0.0.1", "6.6.6.6, 1.2.3.4, 10.0.0.2", null, trusted));
+        assertEquals("1.2.3.4", ClientAddress.resolve("10.0.0.1", "1.2.3.4", "5.6.7.8", trusted));
+    }
+
+    @Test
+    void testFallsBackToRealIpThenPeer() {
+        Set<String> trusted = Set.of("10.0.0.1");
+        assertEquals("5.6.7.8", ClientAddress.resolve("10.0.0.1", null, " 5.6.7.8 ", trusted));
+        assertEquals("5.6.7.8", ClientAddress.resolve("10.0.0.1", "10.0.0.1", "5.6.7.8", trusted));
+        assertEquals("10.0.0.1", ClientAddress.resolve("10.0.0.1", "", null, trusted));
+    }
+}
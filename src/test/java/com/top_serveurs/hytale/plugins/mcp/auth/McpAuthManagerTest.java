@@ -0,0 +1,57 @@
+package com.top_serveurs.hytale.plugins.mcp.auth;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class McpAuthManagerTest {
+
+    private McpConfig config;
+    private McpAuthManager authManager;
+
+    @BeforeEach
+    void setUp() {
+        config = new McpConfig();
+        config.getAuth().setAdminTokens(Set.of("admin-token"));
+        config.getAuth().setPlayerTokens(Set.of("player-token"));
+        authManager = new McpAuthManager(config, mock(HytaleLogger.class, RETURNS_DEEP_STUBS));
+    }
+
+    private static HttpServletRequest request(String token) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getHeader("Authorization")).thenReturn(token != null ? "Bearer " + token : null);
+        return request;
+    }
+
+    @Test
+    void testResolvesLevelsFromTokens() {
+        assertEquals(McpAuthManager.AuthLevel.ADMIN, authManager.authenticate(request("admin-token")));
+        assertEquals(McpAuthManager.AuthLevel.PLAYER, authManager.authenticate(request("player-token")));
+        assertEquals(McpAuthManager.AuthLevel.NONE, authManager.authenticate(request("admin-token2")));
+        assertEquals(McpAuthManager.AuthLevel.NONE, authManager.authenticate(request(null)));
+    }
+
+    @Test
+    void testAcceptedTokenIsIdentifiedByItsHash() {
+        HttpServletRequest accepted = request("player-token");
+        authManager.authenticate(accepted);
+        verify(accepted).setAttribute(eq(McpAuthManager.TOKEN_KEY_ATTRIBUTE), argThat(key -> !key.toString().contains("player")));
+
+        HttpServletRequest rejected = request("guess");
+        authManager.authenticate(rejected);
+        verify(rejected, never()).setAttribute(any(), any());
+    }
+
+    @Test
+    void testDisabledAuthGrantsAdmin() {
+        config.getAuth().setEnabled(false);
+        assertEquals(McpAuthManager.AuthLevel.ADMIN, authManager.authenticate(request(null)));
+    }
+}
@@ -0,0 +1,118 @@
+package com.top_serveurs.hytale.plugins.mcp.auth;
+
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTest {
+
+    private static McpConfig.RateLimitConfig config(int perMinute, int burst, int maxConcurrent) {
+        McpConfig.RateLimitConfig config = new McpConfig.RateLimitConfig();
+        config.setEnabled(true);
+        config.setDefaults(new McpConfig.ToolRateLimit(perMinute, burst));
+        config.setTools(Map.of("flatten_terrain", new McpConfig.ToolRateLimit(1, 1)));
+        config.setMaxConcurrentCalls(maxConcurrent);
+        return config;
+    }
+
+    @Test
+    void testBurstThenSteadyRate() {
+        AtomicLong clock = new AtomicLong(0);
+        RateLimiter limiter = new RateLimiter(config(60, 3, 0), clock::get);
+
+        assertEquals(0, limiter.tryConsume("a", "list_players"));
+        assertEquals(0, limiter.tryConsume("a", "list_players"));
+        assertEquals(0, limiter.tryConsume("a", "list_players"));
+        assertEquals(1000, limiter.tryConsume("a", "list_players"));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertEquals(0, limiter.tryConsume("a", "list_players"));
+        assertTrue(limiter.tryConsume("a", "list_players") > 0);
+
+        // Other tokens and tools have their own buckets
+        assertEquals(0, limiter.tryConsume("b", "list_players"));
+        assertEquals(0, limiter.tryConsume("a", "get_logs"));
+    }
+
+    @Test
+    void testToolOverridesDefault() {
+        AtomicLong clock = new AtomicLong(0);
+        RateLimiter limiter = new RateLimiter(config(600, 100, 0), clock::get);
+
+        assertEquals(0, limiter.tryConsume("a", "flatten_terrain"));
+        assertEquals(60_000, limiter.tryConsume("a", "flatten_terrain"));
+    }
+
+    @Test
+    void testDisabledLimiterAllowsEverything() {
+        McpConfig.RateLimitConfig config = config(1, 1, 1);
+        config.setEnabled(false);
+        RateLimiter limiter = new RateLimiter(config);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, limiter.tryConsume("a", "flatten_terrain"));
+            assertTrue(limiter.tryEnter("a"));
+        }
+    }
+
+    @Test
+    void testConcurrencyCapIsPerToken() {
+        RateLimiter limiter = new RateLimiter(config(60, 1, 2));
+        assertTrue(limiter.tryEnter("a"));
+        assertTrue(limiter.tryEnter("a"));
+        assertFalse(limiter.tryEnter("a"));
+        assertTrue(limiter.tryEnter("b"));
+
+        limiter.exit("a");
+        assertTrue(limiter.tryEnter("a"));
+    }
+
+    @Test
+    void testIdleKeysAreForgotten() {
+        AtomicLong clock = new AtomicLong(0);
+        RateLimiter limiter = new RateLimiter(config(60, 1, 2), clock::get);
+
+        assertTrue(limiter.tryEnter("a"));
+        limiter.exit("a");
+        assertEquals(0, limiter.getTrackedKeys());
+
+        for (int i = 0; i < RateLimiter.MAX_TRACKED_BUCKETS; i++) {
+            assertEquals(0, limiter.tryConsume("address:" + i, "list_players"));
+        }
+        // Every bucket is still refilling, so a new key has to wait instead of growing the map
+        assertTrue(limiter.tryConsume("address:new", "list_players") > 0);
+        assertEquals(RateLimiter.MAX_TRACKED_BUCKETS, limiter.getTrackedKeys());
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        assertEquals(0, limiter.tryConsume("address:new", "list_players"));
+        assertEquals(1, limiter.getTrackedKeys());
+    }
+
+    @Test
+    void testConcurrentCallersNeverExceedBurst() throws InterruptedException {
+        AtomicLong clock = new AtomicLong(0);
+        RateLimiter limiter = new RateLimiter(config(60, 50, 0), clock::get);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(8);
+
+        for (int t = 0; t < 8; t++) {
+            new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    if (limiter.tryConsume("a", "list_players") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(50, allowed.get());
+    }
+}
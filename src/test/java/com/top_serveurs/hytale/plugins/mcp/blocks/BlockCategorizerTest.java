@@ -0,0 +1,59 @@
+package com.top_serveurs.hytale.plugins.mcp.blocks;
+
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockCategorizerTest {
+
+    private static final BlockCategorizer DEFAULT = new BlockCategorizer(new McpConfig.FeaturesConfig().getBlockCategories());
+
+    @Test
+    void testEarlierRulesWin() {
+        // "sandstone_brick" contains keywords of building, stone and nature; building comes first
+        assertEquals("building", DEFAULT.categorize("rock_sandstone_brick"));
+        assertEquals("stone", DEFAULT.categorize("rock_sandstone"));
+        assertEquals("ore", DEFAULT.categorize("ore_iron_stone"));
+    }
+
+    @Test
+    void testOverlappingKeywordsAreAllFound() {
+        // "axe" is a suffix of "pickaxe" and "leaf" shares a prefix with "leaves"
+        assertEquals("tool", DEFAULT.categorize("crude_pickaxe"));
+        assertEquals("nature", DEFAULT.categorize("soil_leaves_oak"));
+        assertEquals("misc", DEFAULT.categorize("furniture_chair"));
+    }
+
+    @Test
+    void testMatchesDefaultRulesLikeSequentialContains() {
+        List<McpConfig.BlockCategoryRule> rules = new McpConfig.FeaturesConfig().getBlockCategories();
+        for (String name : List.of("wood_oak_planks", "glass_pane_blue", "deco_lantern_gold", "plant_wheat_crop",
+                "weapon_sword_iron", "chest_lumber", "slate_tile", "potted_flower", "unknown")) {
+            String expected = BlockCategorizer.MISC;
+            search:
+            for (McpConfig.BlockCategoryRule rule : rules) {
+                for (String keyword : rule.getKeywords()) {
+                    if (name.contains(keyword)) {
+                        expected = rule.getCategory();
+                        break search;
+                    }
+                }
+            }
+            assertEquals(expected, DEFAULT.categorize(name), name);
+        }
+    }
+
+    @Test
+    void testCustomRulesAndCategories() {
+        BlockCategorizer categorizer = new BlockCategorizer(List.of(
+            new McpConfig.BlockCategoryRule("Furniture", "chair", "table"),
+            new McpConfig.BlockCategoryRule("wood", "oak")));
+
+        assertEquals("furniture", categorizer.categorize("oak_table"));
+        assertEquals("wood", categorizer.categorize("oak_log"));
+        assertEquals(List.of("furniture", "wood", "misc"), List.copyOf(categorizer.getCategories()));
+    }
+}
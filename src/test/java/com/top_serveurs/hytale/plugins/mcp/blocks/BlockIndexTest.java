@@ -0,0 +1,73 @@
+package com.top_serveurs.hytale.plugins.mcp.blocks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockIndexTest {
+
+    private static final BlockIndex INDEX = new BlockIndex(List.of(
+        new CategorizedBlock("Wood_Oak_Planks", 4, "wood"),
+        new CategorizedBlock("Rock_Stone", 1, "stone"),
+        new CategorizedBlock("Rock_Stone_Brick", 2, "building"),
+        new CategorizedBlock("Soil_Grass", 3, "nature"),
+        new CategorizedBlock("Ore_Iron_Stone", 5, "ore")
+    ));
+
+    private static String[] names(int[] positions) {
+        String[] names = new String[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            names[i] = INDEX.get(positions[i]).getName();
+        }
+        return names;
+    }
+
+    @Test
+    void testNoFilterReturnsAllSortedByName() {
+        assertArrayEquals(
+            new String[]{"Ore_Iron_Stone", "Rock_Stone", "Rock_Stone_Brick", "Soil_Grass", "Wood_Oak_Planks"},
+            names(INDEX.search(null, null)));
+    }
+
+    @Test
+    void testSearchIsCaseInsensitiveSubstring() {
+        assertArrayEquals(
+            new String[]{"Ore_Iron_Stone", "Rock_Stone", "Rock_Stone_Brick"},
+            names(INDEX.search("STONE", null)));
+    }
+
+    @Test
+    void testTrigramCandidatesAreVerified() {
+        // "k_st" shares trigrams with several names but only occurs in the rock blocks
+        assertArrayEquals(new String[]{"Rock_Stone", "Rock_Stone_Brick"}, names(INDEX.search("k_st", null)));
+        assertEquals(0, INDEX.search("stonex", null).length);
+    }
+
+    @Test
+    void testShortTermsScanNames() {
+        assertArrayEquals(new String[]{"Rock_Stone", "Rock_Stone_Brick", "Wood_Oak_Planks"}, names(INDEX.search("k_", null)));
+    }
+
+    @Test
+    void testCategoryCombinesWithSearch() {
+        assertArrayEquals(new String[]{"Rock_Stone_Brick"}, names(INDEX.search("stone", "Building")));
+        assertArrayEquals(new String[]{"Soil_Grass"}, names(INDEX.search(null, "nature")));
+        assertEquals(0, INDEX.search(null, "glass").length);
+    }
+
+    @Test
+    void testCategoryStatsArePrecomputed() {
+        assertEquals(List.of("building", "nature", "ore", "stone", "wood"), List.copyOf(INDEX.getCategoryStats().keySet()));
+        assertEquals(1, INDEX.getCategoryStats().get("stone"));
+    }
+
+    @Test
+    void testPositionAfterHandlesMissingNames() {
+        assertEquals(2, INDEX.positionAfter("Rock_Stone"));
+        assertEquals(1, INDEX.positionAfter("Ore_Zzz"));
+        assertEquals(0, INDEX.positionAfter(""));
+        assertEquals(INDEX.size(), INDEX.positionAfter("Wood_Oak_Planks"));
+    }
+}
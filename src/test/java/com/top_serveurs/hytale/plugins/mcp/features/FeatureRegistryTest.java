@@ -0,0 +1,81 @@
+package com.top_serveurs.hytale.plugins.mcp.features;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.top_serveurs.hytale.plugins.mcp.auth.McpAuthManager;
+import com.top_serveurs.hytale.plugins.mcp.auth.RateLimiter;
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+import com.top_serveurs.hytale.plugins.mcp.models.McpTool;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolCall;
+import com.top_serveurs.hytale.plugins.mcp.models.McpToolResponse;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class FeatureRegistryTest {
+
+    private static class ThrowingFeature implements AsyncMcpFeature {
+        private boolean fail = true;
+
+        @Override
+        public String getName() {
+            return "throwing";
+        }
+
+        @Override
+        public McpTool getToolDefinition() {
+            return new McpTool("throwing", "Throws before returning a future", "function");
+        }
+
+        @Override
+        public String getInputSchema() {
+            return McpToolSchema.emptyObjectSchema();
+        }
+
+        @Override
+        public CompletableFuture<McpToolResponse> executeAsync(McpToolCall call, McpAuthManager.AuthLevel authLevel) {
+            if (fail) {
+                throw new IllegalArgumentException("bad input");
+            }
+            return CompletableFuture.completedFuture(McpToolResponse.json(json -> {
+                json.writeStartObject();
+                json.writeEndObject();
+            }));
+        }
+
+        @Override
+        public boolean hasPermission(McpAuthManager.AuthLevel authLevel, McpConfig config) {
+            return true;
+        }
+    }
+
+    @Test
+    void testSynchronousFailureReleasesConcurrencySlot() {
+        McpConfig config = new McpConfig();
+        McpConfig.RateLimitConfig limits = config.getFeatures().getRateLimits();
+        limits.setEnabled(true);
+        limits.setMaxConcurrentCalls(1);
+        limits.setDefaults(new McpConfig.ToolRateLimit(6000, 100));
+
+        FeatureRegistry registry = new FeatureRegistry(mock(HytaleLogger.class, RETURNS_DEEP_STUBS), new RateLimiter(limits));
+        ThrowingFeature feature = new ThrowingFeature();
+        registry.registerFeature(feature);
+        McpServerFeatures.AsyncToolSpecification spec = registry.getToolSpecifications(new ObjectMapper(), config).get(0);
+        McpSchema.CallToolRequest request = new McpSchema.CallToolRequest("throwing", Map.of());
+
+        for (int i = 0; i < 3; i++) {
+            McpSchema.CallToolResult result = spec.callHandler().apply(null, request).block();
+            assertTrue(result.isError());
+        }
+
+        feature.fail = false;
+        McpSchema.CallToolResult result = spec.callHandler().apply(null, request).block();
+        assertFalse(result.isError());
+    }
+}
@@ -0,0 +1,25 @@
+package com.top_serveurs.hytale.plugins.mcp.features;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ListBlocksFeatureTest {
+
+    @Test
+    void testAbsentArgumentsDoNotCollideWithLiteralNull() {
+        ListBlocksFeature.ResponseKey absent = new ListBlocksFeature.ResponseKey(null, null, null, null, null);
+        assertNotEquals(absent, new ListBlocksFeature.ResponseKey("null", null, null, null, null));
+        assertNotEquals(absent, new ListBlocksFeature.ResponseKey(null, "null", null, null, null));
+        assertNotEquals(absent, new ListBlocksFeature.ResponseKey(null, null, null, null, "null"));
+        assertEquals(absent, new ListBlocksFeature.ResponseKey(null, null, null, null, null));
+    }
+
+    @Test
+    void testSeparatorInArgumentsDoesNotCollide() {
+        assertNotEquals(
+            new ListBlocksFeature.ResponseKey("stone\u0000wood", null, null, null, null),
+            new ListBlocksFeature.ResponseKey("stone", "wood", null, null, null)
+        );
+    }
+}
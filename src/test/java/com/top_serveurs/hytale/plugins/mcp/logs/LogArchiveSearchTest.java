@@ -0,0 +1,63 @@
+package com.top_serveurs.hytale.plugins.mcp.logs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogArchiveSearchTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File write(String name, String content, boolean gzip) throws IOException {
+        Path path = tempDir.resolve(name);
+        try (OutputStream out = gzip ? new GZIPOutputStream(Files.newOutputStream(path)) : Files.newOutputStream(path)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return path.toFile();
+    }
+
+    @Test
+    void testMergesCompressedAndPlainLogsInTimeOrder() throws IOException {
+        File first = write("2026-02-01.log.gz",
+            "[2026/02/01 23:59:00  ERROR] late failure\n" +
+            "\tat Some.frame\n", true);
+        File second = write("2026-02-02.log",
+            "[2026/02/02 00:01:00   INFO] ok\n" +
+            "[2026/02/02 00:02:00  ERROR] early failure\n", false);
+
+        LogArchiveSearch search = new LogArchiveSearch();
+        try {
+            assertEquals(List.of("[2026/02/01 23:59:00  ERROR] late failure", "[2026/02/02 00:02:00  ERROR] early failure"),
+                search.search(List.of(second, first), new LogQuery("ERROR", null, null, null), 10));
+            assertEquals(List.of("\tat Some.frame", "[2026/02/02 00:01:00   INFO] ok", "[2026/02/02 00:02:00  ERROR] early failure"),
+                search.search(List.of(first, second), new LogQuery(null, null, null, null), 3));
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    @Test
+    void testSlowPatternFailsTheSearch() throws IOException {
+        File file = write("2026-02-01.log.gz", "a".repeat(30) + "\n", true);
+        LogQuery query = new LogQuery(null, null, null, Pattern.compile("((a+)+)\\2b"));
+
+        LogArchiveSearch search = new LogArchiveSearch();
+        try {
+            assertThrows(LogQuery.MatchTimeoutException.class, () -> search.search(List.of(file), query, 10));
+        } finally {
+            search.shutdown();
+        }
+    }
+}
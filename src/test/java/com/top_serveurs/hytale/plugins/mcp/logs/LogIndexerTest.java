@@ -0,0 +1,113 @@
+package com.top_serveurs.hytale.plugins.mcp.logs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogIndexerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File write(String content, StandardOpenOption... options) throws IOException {
+        Path path = tempDir.resolve("latest.log");
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8), options);
+        return path.toFile();
+    }
+
+    @Test
+    void testLevelAndTimeRange() throws IOException {
+        File file = write(
+            "[2026/02/01 10:00:01   INFO] starting\n" +
+            "[2026/02/01 10:00:02  ERROR] first failure\n" +
+            "\tat Some.frame\n" +
+            "[2026/02/01 10:01:00   INFO] running\n" +
+            "[2026/02/01 10:02:00  ERROR] second failure\n");
+        LogIndexer indexer = new LogIndexer(null, () -> file);
+        indexer.catchUp();
+
+        assertEquals(List.of("[2026/02/01 10:00:02  ERROR] first failure", "[2026/02/01 10:02:00  ERROR] second failure"),
+            indexer.query(new LogQuery("ERROR", null, null, null), 10));
+        assertEquals(List.of("[2026/02/01 10:02:00  ERROR] second failure"),
+            indexer.query(new LogQuery("ERROR", LocalDateTime.of(2026, 2, 1, 10, 1), null, null), 10));
+        assertEquals(List.of("[2026/02/01 10:00:01   INFO] starting", "[2026/02/01 10:00:02  ERROR] first failure", "\tat Some.frame"),
+            indexer.query(new LogQuery(null, null, LocalDateTime.of(2026, 2, 1, 10, 0, 59), null), 10));
+    }
+
+    @Test
+    void testLimitKeepsNewestLinesAndGrepFilters() throws IOException {
+        File file = write(
+            "[2026/02/01 10:00:01   INFO] player joined: Alice\n" +
+            "[2026/02/01 10:05:00   INFO] player joined: Bob\n" +
+            "[2026/02/01 10:09:00   INFO] chunk saved\n");
+        LogIndexer indexer = new LogIndexer(null, () -> file);
+        indexer.catchUp();
+
+        assertEquals(List.of("[2026/02/01 10:05:00   INFO] player joined: Bob"),
+            indexer.query(new LogQuery(null, null, null, Pattern.compile("joined: \\w+")), 1));
+    }
+
+    @Test
+    void testPicksUpAppendedLinesAndRotation() throws IOException {
+        File file = write("[2026/02/01 10:00:01   INFO] one\n[2026/02/01 10:00:02   INFO] partial");
+        LogIndexer indexer = new LogIndexer(null, () -> file);
+        indexer.catchUp();
+        LogQuery all = new LogQuery(null, null, null, null);
+
+        assertEquals(List.of("[2026/02/01 10:00:01   INFO] one", "[2026/02/01 10:00:02   INFO] partial"), indexer.query(all, 10));
+
+        write(" line\n[2026/02/01 10:03:00   WARN] two\n", StandardOpenOption.APPEND);
+        indexer.catchUp();
+        assertEquals(List.of("[2026/02/01 10:00:02   INFO] partial line", "[2026/02/01 10:03:00   WARN] two"),
+            indexer.query(all, 2));
+
+        write("[2026/02/02 00:00:00   INFO] new day\n", StandardOpenOption.TRUNCATE_EXISTING);
+        indexer.catchUp();
+        assertEquals(List.of("[2026/02/02 00:00:00   INFO] new day"), indexer.query(all, 10));
+    }
+
+    @Test
+    void testQueryBeforeAndBetweenPassesScansUnindexedOutput() throws IOException {
+        File file = write("[2026/02/01 10:00:01   INFO] one\n");
+        LogIndexer indexer = new LogIndexer(null, () -> file);
+        List<String> published = new ArrayList<>();
+        indexer.addListener(published::add);
+        LogQuery all = new LogQuery(null, null, null, null);
+
+        // Nothing indexed yet, as while the first pass is still running
+        assertEquals(List.of("[2026/02/01 10:00:01   INFO] one"), indexer.query(all, 10));
+
+        indexer.catchUp();
+        write("[2026/02/01 10:00:02  ERROR] two\n", StandardOpenOption.APPEND);
+        assertEquals(List.of("[2026/02/01 10:00:01   INFO] one", "[2026/02/01 10:00:02  ERROR] two"), indexer.query(all, 10));
+        assertEquals(List.of("[2026/02/01 10:00:02  ERROR] two"), indexer.query(new LogQuery("ERROR", null, null, null), 10));
+        // Queries leave publishing to the indexer
+        assertTrue(published.isEmpty());
+
+        indexer.catchUp();
+        assertEquals(List.of("[2026/02/01 10:00:02  ERROR] two"), published);
+        assertEquals(List.of("[2026/02/01 10:00:01   INFO] one", "[2026/02/01 10:00:02  ERROR] two"), indexer.query(all, 10));
+    }
+
+    @Test
+    void testSlowPatternFailsTheQuery() throws IOException {
+        File file = write("a".repeat(30) + "\n");
+        LogIndexer indexer = new LogIndexer(null, () -> file);
+        indexer.catchUp();
+
+        assertThrows(LogQuery.MatchTimeoutException.class,
+            () -> indexer.query(new LogQuery(null, null, null, Pattern.compile("((a+)+)\\2b")), 10));
+    }
+}
@@ -0,0 +1,43 @@
+package com.top_serveurs.hytale.plugins.mcp.logs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogQueryTest {
+
+    private static final long BUDGET = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    void testBoundedMatchAgreesWithPlainMatch() {
+        LogQuery query = new LogQuery("ERROR", null, null, Pattern.compile("fail\\w+"));
+        String line = "[2026/02/01 10:00:02  ERROR] first failure";
+
+        assertTrue(query.matches(line));
+        assertTrue(query.matches(line, BUDGET));
+        assertFalse(query.matches("[2026/02/01 10:00:02   INFO] first failure", BUDGET));
+    }
+
+    @Test
+    void testCatastrophicPatternTimesOut() {
+        // The back reference defeats the engine's loop memoisation, unbounded this runs for seconds
+        LogQuery query = new LogQuery(null, null, null, Pattern.compile("((a+)+)\\2b"));
+        String line = "a".repeat(30);
+
+        long start = System.nanoTime();
+        assertThrows(LogQuery.MatchTimeoutException.class, () -> query.matches(line, BUDGET));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void testOnlyTheStartOfLongLinesIsSearched() {
+        LogQuery query = new LogQuery(null, null, null, Pattern.compile("needle"));
+        String line = "x".repeat(LogQuery.MAX_BOUNDED_LENGTH) + "needle";
+
+        assertTrue(query.matches(line));
+        assertFalse(query.matches(line, BUDGET));
+    }
+}
@@ -0,0 +1,62 @@
+package com.top_serveurs.hytale.plugins.mcp.logs;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import io.modelcontextprotocol.server.McpAsyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class LogSubscriptionsTest {
+
+    private final List<Runnable> senderTasks = new ArrayList<>();
+    private final LogSubscriptions subscriptions =
+        new LogSubscriptions(mock(HytaleLogger.class, RETURNS_DEEP_STUBS), senderTasks::add);
+
+    private static McpAsyncServerExchange exchange(List<String> received) {
+        McpAsyncServerExchange exchange = mock(McpAsyncServerExchange.class);
+        when(exchange.sessionId()).thenReturn("session");
+        when(exchange.loggingNotification(any())).thenAnswer(invocation -> {
+            received.add(((McpSchema.LoggingMessageNotification) invocation.getArgument(0)).data());
+            return Mono.empty();
+        });
+        return exchange;
+    }
+
+    @Test
+    void testPublishLeavesSendingToTheSender() {
+        List<String> received = new ArrayList<>();
+        subscriptions.subscribe(exchange(received), new LogQuery(null, null, null, null), 60_000);
+
+        for (int i = 0; i < 500; i++) {
+            subscriptions.publish("line " + i);
+        }
+        // Nothing is sent from the publishing thread, and one sender task drains the whole queue
+        assertTrue(received.isEmpty());
+        assertEquals(1, senderTasks.size());
+
+        senderTasks.get(0).run();
+        assertEquals(500, received.size());
+        assertEquals("line 0", received.get(0));
+        assertEquals("line 499", received.get(499));
+
+        subscriptions.publish("line 500");
+        assertEquals(2, senderTasks.size());
+    }
+
+    @Test
+    void testFailedSendDropsSubscription() {
+        McpAsyncServerExchange exchange = mock(McpAsyncServerExchange.class);
+        when(exchange.loggingNotification(any())).thenReturn(Mono.error(new IllegalStateException("closed")));
+        String id = subscriptions.subscribe(exchange, new LogQuery(null, null, null, null), 60_000);
+
+        subscriptions.publish("line");
+        senderTasks.get(0).run();
+        assertFalse(subscriptions.unsubscribe(null, id));
+    }
+}
@@ -0,0 +1,61 @@
+package com.top_serveurs.hytale.plugins.mcp.logs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReverseLineReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<String> readAll(String content, int blockSize) throws IOException {
+        File file = tempDir.resolve("test.log").toFile();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+        List<String> lines = new ArrayList<>();
+        try (ReverseLineReader reader = new ReverseLineReader(file, 0, -1, blockSize)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    @Test
+    void testReadsLinesNewestFirst() throws IOException {
+        assertEquals(List.of("third", "second", "first"), readAll("first\nsecond\nthird\n", 64));
+    }
+
+    @Test
+    void testLastLineWithoutNewline() throws IOException {
+        assertEquals(List.of("third", "second", "first"), readAll("first\nsecond\nthird", 64));
+    }
+
+    @Test
+    void testKeepsEmptyLinesAndStripsCarriageReturns() throws IOException {
+        assertEquals(List.of("b", "", "a"), readAll("a\r\n\r\nb\r\n", 64));
+    }
+
+    @Test
+    void testLinesSpanningBlocks() throws IOException {
+        String longLine = "x".repeat(50);
+        assertEquals(List.of("tail", longLine, "héllo wörld"), readAll("héllo wörld\n" + longLine + "\ntail\n", 4));
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        assertEquals(List.of(), readAll("", 64));
+        assertEquals(List.of(""), readAll("\n", 64));
+    }
+}
@@ -0,0 +1,88 @@
+package com.top_serveurs.hytale.plugins.mcp.players;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerGridTest {
+
+    private static final UUID WORLD = new UUID(0, 1);
+    private static final UUID OTHER_WORLD = new UUID(0, 2);
+
+    private static Set<String> names(List<PlayerGrid.Entry> entries) {
+        Set<String> names = new HashSet<>();
+        for (PlayerGrid.Entry entry : entries) {
+            names.add(entry.getName());
+        }
+        return names;
+    }
+
+    @Test
+    void testRadiusIsNearestFirstAndCrossesChunkBorders() {
+        PlayerGrid grid = PlayerGrid.builder(0)
+            .add(WORLD, UUID.randomUUID(), "far", 40, 64, 0)
+            .add(WORLD, UUID.randomUUID(), "near", -1.5, 64, 0)
+            .add(WORLD, UUID.randomUUID(), "mid", 10, 64, 0)
+            .add(OTHER_WORLD, UUID.randomUUID(), "elsewhere", 0, 64, 0)
+            .build();
+
+        List<PlayerGrid.Entry> result = grid.withinRadius(WORLD, 0, 64, 0, 45);
+        assertEquals(List.of("near", "mid", "far"), result.stream().map(PlayerGrid.Entry::getName).toList());
+        assertEquals(Set.of("near", "mid"), names(grid.withinRadius(WORLD, 0, 64, 0, 10)));
+        assertTrue(grid.withinRadius(UUID.randomUUID(), 0, 64, 0, 100).isEmpty());
+    }
+
+    @Test
+    void testBoxIncludesBounds() {
+        PlayerGrid grid = PlayerGrid.builder(0)
+            .add(WORLD, UUID.randomUUID(), "corner", -32, 0, 31)
+            .add(WORLD, UUID.randomUUID(), "inside", 0, 10, 0)
+            .add(WORLD, UUID.randomUUID(), "above", 0, 200, 0)
+            .build();
+
+        assertEquals(Set.of("corner", "inside"), names(grid.withinBox(WORLD, -32, 0, -5, 5, 100, 31)));
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        Random random = new Random(42);
+        PlayerGrid.Builder builder = PlayerGrid.builder(0);
+        List<double[]> points = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            double[] p = {random.nextDouble() * 2000 - 1000, random.nextDouble() * 256, random.nextDouble() * 2000 - 1000};
+            points.add(p);
+            builder.add(WORLD, UUID.randomUUID(), String.valueOf(i), p[0], p[1], p[2]);
+        }
+        PlayerGrid grid = builder.build();
+
+        for (int q = 0; q < 50; q++) {
+            double x = random.nextDouble() * 2000 - 1000;
+            double y = random.nextDouble() * 256;
+            double z = random.nextDouble() * 2000 - 1000;
+            double radius = random.nextDouble() * 150;
+
+            Set<String> expectedRadius = new HashSet<>();
+            Set<String> expectedBox = new HashSet<>();
+            for (int i = 0; i < points.size(); i++) {
+                double[] p = points.get(i);
+                double dx = p[0] - x, dy = p[1] - y, dz = p[2] - z;
+                if (dx * dx + dy * dy + dz * dz <= radius * radius) {
+                    expectedRadius.add(String.valueOf(i));
+                }
+                if (Math.abs(dx) <= radius && Math.abs(dy) <= radius && Math.abs(dz) <= radius) {
+                    expectedBox.add(String.valueOf(i));
+                }
+            }
+
+            assertEquals(expectedRadius, names(grid.withinRadius(WORLD, x, y, z, radius)));
+            assertEquals(expectedBox, names(grid.withinBox(WORLD, x - radius, y - radius, z - radius, x + radius, y + radius, z + radius)));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.top_serveurs.hytale.plugins.mcp.players;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerTrailTest {
+
+    private static final UUID WORLD = new UUID(0, 1);
+
+    private static PlayerTrail trail(int capacity, int samples) {
+        PlayerTrail trail = new PlayerTrail(capacity);
+        for (int i = 0; i < samples; i++) {
+            trail.record(i * 1000L, WORLD, i, 64, -i, i * 0.1f, 0);
+        }
+        return trail;
+    }
+
+    @Test
+    void testSnapshotIsOldestFirstBeforeWrapping() {
+        PlayerTrail.Snapshot snapshot = trail(10, 3).snapshot(Long.MIN_VALUE, 100);
+        assertEquals(3, snapshot.size());
+        assertEquals(0, snapshot.getX(0));
+        assertEquals(2, snapshot.getX(2));
+        assertEquals(-2, snapshot.getZ(2));
+        assertEquals(WORLD, snapshot.getWorldUuid(1));
+    }
+
+    @Test
+    void testWrappingKeepsNewestSamples() {
+        PlayerTrail trail = trail(4, 10);
+        assertEquals(4, trail.size());
+        PlayerTrail.Snapshot snapshot = trail.snapshot(Long.MIN_VALUE, 100);
+        assertEquals(4, snapshot.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(6 + i, snapshot.getX(i));
+            assertEquals((6 + i) * 1000L, snapshot.getTime(i));
+        }
+    }
+
+    @Test
+    void testSinceAndLimitKeepNewest() {
+        PlayerTrail trail = trail(8, 12);
+        PlayerTrail.Snapshot sinceSnapshot = trail.snapshot(9000, 100);
+        assertEquals(3, sinceSnapshot.size());
+        assertEquals(9, sinceSnapshot.getX(0));
+
+        PlayerTrail.Snapshot limited = trail.snapshot(Long.MIN_VALUE, 2);
+        assertEquals(2, limited.size());
+        assertEquals(10, limited.getX(0));
+        assertEquals(11, limited.getX(1));
+
+        assertEquals(0, new PlayerTrail(5).snapshot(Long.MIN_VALUE, 10).size());
+    }
+}
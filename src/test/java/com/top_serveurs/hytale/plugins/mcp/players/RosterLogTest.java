@@ -0,0 +1,62 @@
+package com.top_serveurs.hytale.plugins.mcp.players;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RosterLogTest {
+
+    private static final UUID ALICE = new UUID(0, 1);
+    private static final UUID BOB = new UUID(0, 2);
+    private static final UUID CAROL = new UUID(0, 3);
+
+    private static List<UUID> uuids(List<RosterLog.Change> changes) {
+        return changes.stream().map(RosterLog.Change::getUuid).toList();
+    }
+
+    @Test
+    void testNetChangesSinceVersion() {
+        RosterLog log = new RosterLog(100, 1000);
+        log.record(true, ALICE, "Alice");
+        long seen = log.record(true, BOB, "Bob");
+        log.record(true, CAROL, "Carol");
+        log.record(false, ALICE, "Alice");
+        // Bob leaving and coming back is not a change for someone who saw him present
+        log.record(false, BOB, "Bob");
+        log.record(true, BOB, "Bob");
+
+        RosterLog.Delta delta = log.changesSince(seen);
+        assertEquals(1006, delta.getVersion());
+        assertEquals(List.of(CAROL), uuids(delta.getJoined()));
+        assertEquals(List.of(ALICE), uuids(delta.getLeft()));
+    }
+
+    @Test
+    void testJoinThenLeaveCancelsOut() {
+        RosterLog log = new RosterLog(100, 0);
+        long seen = log.record(true, ALICE, "Alice");
+        log.record(true, BOB, "Bob");
+        log.record(false, BOB, "Bob");
+
+        RosterLog.Delta delta = log.changesSince(seen);
+        assertTrue(delta.getJoined().isEmpty());
+        assertTrue(delta.getLeft().isEmpty());
+        assertTrue(log.changesSince(log.getVersion()).getJoined().isEmpty());
+    }
+
+    @Test
+    void testUnknownOrEvictedVersionNeedsFullRoster() {
+        RosterLog log = new RosterLog(2, 0);
+        log.record(true, ALICE, "Alice");
+        log.record(true, BOB, "Bob");
+        log.record(true, CAROL, "Carol");
+
+        assertNull(log.changesSince(0));
+        assertNotNull(log.changesSince(1));
+        assertNull(log.changesSince(log.getVersion() + 1));
+        assertNotNull(new RosterLog(2, 50).changesSince(50));
+    }
+}
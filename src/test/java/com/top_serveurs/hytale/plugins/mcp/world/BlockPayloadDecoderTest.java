@@ -0,0 +1,150 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockPayloadDecoderTest {
+
+    private static String pack(int[]... records) {
+        ByteBuffer buffer = ByteBuffer.allocate(records.length * BlockPayloadDecoder.RECORD_SIZE);
+        for (int[] record : records) {
+            buffer.putInt(record[0]);
+            buffer.putInt(record[1]);
+            buffer.putInt(record[2]);
+            buffer.putShort((short) record[3]);
+            buffer.putShort((short) record[4]);
+        }
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    @Test
+    void testDecodeSingleBlocks() {
+        String packed = pack(new int[]{10, 64, -5, 0, 1}, new int[]{11, 65, -6, 1, 1});
+
+        BlockBatch batch = BlockPayloadDecoder.decode(List.of("Rock_Stone", "Wood_Oak"), packed, null, 100, 100);
+
+        assertEquals(2, batch.size());
+        assertEquals(10, batch.getX(0));
+        assertEquals(64, batch.getY(0));
+        assertEquals(-5, batch.getZ(0));
+        assertEquals("Rock_Stone", batch.getBlockType(0));
+        assertEquals("Wood_Oak", batch.getBlockType(1));
+        assertEquals(2, batch.getPaletteSize());
+    }
+
+    @Test
+    void testDecodeRunAlongAxis() {
+        String packed = pack(new int[]{0, 64, 0, 0, 3});
+
+        BlockBatch batch = BlockPayloadDecoder.decode(List.of("Rock_Stone"), packed, "y", 100, 100);
+
+        assertEquals(3, batch.size());
+        assertEquals(64, batch.getY(0));
+        assertEquals(65, batch.getY(1));
+        assertEquals(66, batch.getY(2));
+        assertEquals(0, batch.getX(2));
+        assertEquals(0, batch.getZ(2));
+    }
+
+    @Test
+    void testRejectsPaletteIndexOutOfRange() {
+        String packed = pack(new int[]{0, 0, 0, 2, 1});
+
+        assertThrows(IllegalArgumentException.class,
+            () -> BlockPayloadDecoder.decode(List.of("Rock_Stone"), packed, null, 100, 100));
+    }
+
+    @Test
+    void testRejectsRunsAboveLimit() {
+        String packed = pack(new int[]{0, 0, 0, 0, 60}, new int[]{0, 1, 0, 0, 60});
+
+        assertThrows(IllegalArgumentException.class,
+            () -> BlockPayloadDecoder.decode(List.of("Rock_Stone"), packed, null, 100, 100));
+    }
+
+    @Test
+    void testRecordsAndExpandedBlocksHaveSeparateLimits() {
+        String packed = pack(new int[]{0, 0, 0, 0, 60}, new int[]{0, 1, 0, 0, 60});
+
+        assertEquals(120, BlockPayloadDecoder.decode(List.of("Rock_Stone"), packed, null, 2, 500).size());
+        assertThrows(IllegalArgumentException.class,
+            () -> BlockPayloadDecoder.decode(List.of("Rock_Stone"), packed, null, 1, 500));
+    }
+
+    @Test
+    void testRejectsRunsPastCoordinateRange() {
+        String packed = pack(new int[]{0, Integer.MAX_VALUE - 1, 0, 0, 3});
+
+        assertThrows(IllegalArgumentException.class,
+            () -> BlockPayloadDecoder.decode(List.of("Rock_Stone"), packed, "y", 100, 100));
+        // The same run along another axis stays in range
+        assertEquals(Integer.MAX_VALUE - 1, BlockPayloadDecoder.decode(List.of("Rock_Stone"), packed, "x", 100, 100).getY(2));
+    }
+
+    @Test
+    void testRejectsPaletteLongerThanRecords() {
+        String packed = pack(new int[]{0, 0, 0, 0, 1});
+
+        assertThrows(IllegalArgumentException.class,
+            () -> BlockPayloadDecoder.decode(List.of("Rock_Stone", "Wood_Oak"), packed, null, 100, 100));
+    }
+
+    @Test
+    void testRejectsPaletteBeyondIndexRange() {
+        int records = BlockPayloadDecoder.MAX_PALETTE_SIZE + 1;
+        int[][] runs = new int[records][];
+        for (int r = 0; r < records; r++) {
+            runs[r] = new int[]{r, 0, 0, 0, 1};
+        }
+        List<String> palette = Collections.nCopies(records, "Rock_Stone");
+
+        assertThrows(IllegalArgumentException.class,
+            () -> BlockPayloadDecoder.decode(palette, pack(runs), null, records, records));
+    }
+
+    @Test
+    void testRejectsTruncatedRecords() {
+        String packed = Base64.getEncoder().encodeToString(new byte[BlockPayloadDecoder.RECORD_SIZE - 1]);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> BlockPayloadDecoder.decode(List.of("Rock_Stone"), packed, null, 100, 100));
+    }
+
+    @Test
+    void testRejectsUnknownAxis() {
+        String packed = pack(new int[]{0, 0, 0, 0, 1});
+
+        assertThrows(IllegalArgumentException.class,
+            () -> BlockPayloadDecoder.decode(List.of("Rock_Stone"), packed, "w", 100, 100));
+    }
+
+    @Test
+    void testDecodesObjectsWithSharedPalette() {
+        List<Map<String, Object>> blocks = List.of(
+            Map.of("x", 1, "y", 2, "z", 3, "blockType", "Rock_Stone"),
+            Map.of("x", 4.0, "y", 5, "z", 6, "blockType", "Soil_Grass"),
+            Map.of("x", 7, "y", 8, "z", 9, "blockType", "Rock_Stone"));
+
+        BlockBatch batch = BlockPayloadDecoder.decodeObjects(blocks, 100);
+
+        assertEquals(3, batch.size());
+        assertEquals(2, batch.getPaletteSize());
+        assertEquals(4, batch.getX(1));
+        assertEquals("Rock_Stone", batch.getBlockType(2));
+        assertEquals(batch.getPaletteIndex(0), batch.getPaletteIndex(2));
+    }
+
+    @Test
+    void testRejectsIncompleteObjects() {
+        List<Map<String, Object>> blocks = List.of(Map.of("x", 1, "y", 2, "blockType", "Rock_Stone"));
+
+        assertThrows(IllegalArgumentException.class, () -> BlockPayloadDecoder.decodeObjects(blocks, 100));
+    }
+}
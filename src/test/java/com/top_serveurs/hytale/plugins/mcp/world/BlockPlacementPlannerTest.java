@@ -0,0 +1,90 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockPlacementPlannerTest {
+
+    private static BlockBatch batch(int[] xs, int[] ys, int[] zs) {
+        return new BlockBatch(xs, ys, zs, new int[xs.length], new String[]{"Rock_Stone"});
+    }
+
+    private static int[] expectedOrder(BlockBatch batch) {
+        Integer[] indices = new Integer[batch.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        Arrays.sort(indices, Comparator
+            .<Integer>comparingInt(i -> ChunkMath.toChunk(batch.getX(i)))
+            .thenComparingInt(i -> ChunkMath.toChunk(batch.getZ(i)))
+            .thenComparingInt(batch::getY)
+            .thenComparingInt(batch::getZ)
+            .thenComparingInt(batch::getX)
+            .thenComparingInt(i -> i));
+        return Arrays.stream(indices).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static BlockBatch randomBatch(Random random, int size, int spread) {
+        int[] xs = new int[size];
+        int[] ys = new int[size];
+        int[] zs = new int[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = random.nextInt(spread) - spread / 2;
+            ys[i] = random.nextInt(64);
+            zs[i] = random.nextInt(spread) - spread / 2;
+        }
+        return batch(xs, ys, zs);
+    }
+
+    @Test
+    void testGroupsByChunkThenBottomUp() {
+        BlockBatch batch = batch(
+            new int[]{40, 1, -1, 2, 1},
+            new int[]{10, 5, 0, 3, 3},
+            new int[]{0, 0, 0, 0, 1});
+
+        // Chunk -1 first, then chunk 0 by y, z, x, then chunk 1
+        assertArrayEquals(new int[]{2, 3, 4, 1, 0}, BlockPlacementPlanner.planByChunk(batch));
+    }
+
+    @Test
+    void testMatchesReferenceOrder() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            BlockBatch batch = randomBatch(random, 500, 200);
+            assertArrayEquals(expectedOrder(batch), BlockPlacementPlanner.planByChunk(batch));
+        }
+    }
+
+    @Test
+    void testDuplicatePositionsKeepBatchOrder() {
+        BlockBatch batch = batch(new int[]{5, 5, 5}, new int[]{1, 1, 1}, new int[]{7, 7, 7});
+        assertArrayEquals(new int[]{0, 1, 2}, BlockPlacementPlanner.planByChunk(batch));
+    }
+
+    @Test
+    void testExtremeCoordinatesUseTheSameOrder() {
+        BlockBatch batch = batch(
+            new int[]{Integer.MAX_VALUE, Integer.MIN_VALUE, 0, Integer.MIN_VALUE, 31},
+            new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE, 0, 0, 0},
+            new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 0});
+
+        assertArrayEquals(expectedOrder(batch), BlockPlacementPlanner.planByChunk(batch));
+
+        Random random = new Random(7);
+        for (int round = 0; round < 5; round++) {
+            BlockBatch wide = randomBatch(random, 300, Integer.MAX_VALUE);
+            assertArrayEquals(expectedOrder(wide), BlockPlacementPlanner.planByChunk(wide));
+        }
+    }
+
+    @Test
+    void testEmptyBatch() {
+        assertEquals(0, BlockPlacementPlanner.planByChunk(batch(new int[0], new int[0], new int[0])).length);
+    }
+}
@@ -0,0 +1,81 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class RegionFillJobTest {
+    private static final int STONE = 5;
+    private static final int EMPTY = 0;
+    private static final long NO_TIME_LIMIT = TimeUnit.MINUTES.toNanos(1);
+
+    // A world backed by a map, where anything never written reads as empty
+    private static World world(Map<List<Integer>, Integer> blocks) {
+        World world = mock(World.class);
+        when(world.getBlock(anyInt(), anyInt(), anyInt())).thenAnswer(invocation ->
+            blocks.getOrDefault(List.of(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)), EMPTY));
+        doAnswer(invocation -> {
+            int index = "Rock_Stone".equals(invocation.getArgument(3)) ? STONE : EMPTY;
+            blocks.put(List.of(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)), index);
+            return null;
+        }).when(world).setBlock(anyInt(), anyInt(), anyInt(), anyString(), anyInt());
+        return world;
+    }
+
+    private static RegionFillJob job() {
+        // A 4x4x4 box at the corner of a chunk, solid up to y = 1 and empty above
+        return new RegionFillJob(0, 3, 0, 3, 0, 3, 1, "Rock_Stone", STONE, "Empty", EMPTY);
+    }
+
+    @Test
+    void testUnchangedVoxelsAreSkippedAndCounted() {
+        Map<List<Integer>, Integer> blocks = new HashMap<>();
+        for (int x = 0; x < 2; x++) {
+            for (int y = 0; y <= 1; y++) {
+                for (int z = 0; z < 4; z++) {
+                    blocks.put(List.of(x, y, z), STONE);
+                }
+            }
+        }
+        blocks.put(List.of(3, 3, 3), STONE);
+        World world = world(blocks);
+
+        RegionFillJob job = job();
+        assertTrue(job.step(world, new WriteBudget(1000, NO_TIME_LIMIT)));
+
+        assertEquals(16, job.getBlocksPlaced());
+        assertEquals(1, job.getBlocksCleared());
+        assertEquals(47, job.getBlocksUnchanged());
+        verify(world, times(17)).setBlock(anyInt(), anyInt(), anyInt(), anyString(), anyInt());
+        verify(world, never()).setBlock(eq(0), anyInt(), anyInt(), anyString(), anyInt());
+    }
+
+    @Test
+    void testSkippedVoxelsDoNotUseTheBudget() {
+        Map<List<Integer>, Integer> blocks = new HashMap<>();
+        World world = world(blocks);
+
+        // Only the 32 voxels at or below the surface need writing
+        RegionFillJob job = job();
+        int steps = 0;
+        while (!job.step(world, new WriteBudget(10, NO_TIME_LIMIT))) {
+            steps++;
+        }
+        assertEquals(3, steps);
+        assertEquals(32, job.getBlocksPlaced());
+        assertEquals(32, job.getBlocksUnchanged());
+
+        RegionFillJob again = job();
+        assertTrue(again.step(world, new WriteBudget(1, NO_TIME_LIMIT)));
+        assertEquals(0, again.getBlocksPlaced() + again.getBlocksCleared());
+        assertEquals(64, again.getBlocksUnchanged());
+    }
+}
@@ -0,0 +1,193 @@
+package com.top_serveurs.hytale.plugins.mcp.world;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.top_serveurs.hytale.plugins.mcp.config.McpConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class WorldWriteSchedulerTest {
+
+    // A job that never finishes, standing in for writes waiting on ticks
+    private static final WorldWriteJob<Integer> ENDLESS = new WorldWriteJob<>() {
+        @Override
+        public boolean step(World world, WriteBudget budget) {
+            return false;
+        }
+
+        @Override
+        public Integer result() {
+            return 0;
+        }
+    };
+
+    private final WorldWriteScheduler scheduler =
+        new WorldWriteScheduler(mock(HytaleLogger.class, RETURNS_DEEP_STUBS), new McpConfig());
+
+    @Test
+    void testRemovedWorldFailsPendingJobs() {
+        // The world never runs its tasks, as once it has stopped
+        World world = mock(World.class);
+        CompletableFuture<Integer> pending = scheduler.submit(world, ENDLESS);
+        assertFalse(pending.isDone());
+
+        scheduler.removeWorld(world);
+        assertThrows(CancellationException.class, pending::join);
+    }
+
+    @Test
+    void testShutdownFailsPendingAndLaterJobs() {
+        World world = mock(World.class);
+        CompletableFuture<Integer> pending = scheduler.submit(world, ENDLESS);
+
+        scheduler.shutdown();
+        assertThrows(CancellationException.class, pending::join);
+        assertThrows(CancellationException.class, scheduler.submit(world, ENDLESS)::join);
+    }
+
+    @Test
+    void testJobRunningDuringShutdownIsNotRequeued() {
+        World world = mock(World.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(world).execute(any());
+
+        // Shut down from inside the tick, while the job is off the queue
+        CompletableFuture<Integer> pending = scheduler.submit(world, new WorldWriteJob<Integer>() {
+            @Override
+            public boolean step(World world, WriteBudget budget) {
+                scheduler.shutdown();
+                return false;
+            }
+
+            @Override
+            public Integer result() {
+                return 0;
+            }
+        });
+        assertThrows(CancellationException.class, pending::join);
+    }
+
+    @Test
+    void testFutureCompletesOffTheWorldThread() {
+        World world = mock(World.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(world).execute(any());
+        List<Runnable> completions = new ArrayList<>();
+        WorldWriteScheduler deferred = new WorldWriteScheduler(mock(HytaleLogger.class, RETURNS_DEEP_STUBS), new McpConfig(), completions::add);
+
+        CompletableFuture<Integer> done = deferred.submit(world, new WorldWriteJob<Integer>() {
+            @Override
+            public boolean step(World world, WriteBudget budget) {
+                return true;
+            }
+
+            @Override
+            public Integer result() {
+                return 7;
+            }
+        });
+
+        // The tick finished the job but left completing it, and whatever callers chain on it, to the executor
+        assertFalse(done.isDone());
+        assertEquals(1, completions.size());
+        completions.get(0).run();
+        assertEquals(7, done.join());
+    }
+
+    @Test
+    void testZeroBudgetStillMakesProgress() {
+        McpConfig config = new McpConfig();
+        config.getFeatures().getWriteBudget().setBlocksPerTick(0);
+        config.getFeatures().getWriteBudget().setMillisPerTick(0);
+        config.getFeatures().getWriteBudget().setTickIntervalMs(0);
+        WorldWriteScheduler clamped = new WorldWriteScheduler(mock(HytaleLogger.class, RETURNS_DEEP_STUBS), config, Runnable::run);
+
+        CompletableFuture<Integer> done = clamped.submit(inlineWorld(), new CountingJob(3));
+        assertEquals(3, done.orTimeout(5, TimeUnit.SECONDS).join());
+        clamped.shutdown();
+    }
+
+    @Test
+    void testLargeBatchIsSplitAcrossTicks() {
+        McpConfig config = new McpConfig();
+        config.getFeatures().getWriteBudget().setBlocksPerTick(2);
+        config.getFeatures().getWriteBudget().setMillisPerTick(1000);
+        config.getFeatures().getWriteBudget().setTickIntervalMs(1);
+        WorldWriteScheduler limited = new WorldWriteScheduler(mock(HytaleLogger.class, RETURNS_DEEP_STUBS), config, Runnable::run);
+
+        List<Integer> writtenPerTick = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<CompletableFuture<Integer>> future = new AtomicReference<>();
+        AtomicBoolean doneBeforeLastSlice = new AtomicBoolean(false);
+        CountingJob counting = new CountingJob(5);
+        CompletableFuture<Integer> done = limited.submit(inlineWorld(), new WorldWriteJob<Integer>() {
+            @Override
+            public boolean step(World world, WriteBudget budget) {
+                CompletableFuture<Integer> current = future.get();
+                if (current != null && current.isDone()) {
+                    doneBeforeLastSlice.set(true);
+                }
+                boolean finished = counting.step(world, budget);
+                writtenPerTick.add(counting.result());
+                return finished;
+            }
+
+            @Override
+            public Integer result() {
+                return counting.result();
+            }
+        });
+        future.set(done);
+
+        assertEquals(5, done.orTimeout(5, TimeUnit.SECONDS).join());
+        assertEquals(List.of(2, 4, 5), writtenPerTick);
+        assertFalse(doneBeforeLastSlice.get());
+        limited.shutdown();
+    }
+
+    private static World inlineWorld() {
+        World world = mock(World.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(world).execute(any());
+        return world;
+    }
+
+    // Writes one block per unit of budget until it has written its total
+    private static final class CountingJob implements WorldWriteJob<Integer> {
+        private final int total;
+        private int written = 0;
+
+        CountingJob(int total) {
+            this.total = total;
+        }
+
+        @Override
+        public boolean step(World world, WriteBudget budget) {
+            while (written < total && budget.tryConsume()) {
+                written++;
+            }
+            return written == total;
+        }
+
+        @Override
+        public Integer result() {
+            return written;
+        }
+    }
+}